@@ -0,0 +1,82 @@
+package com.umc.mada.benchmark;
+
+import com.umc.mada.category.domain.Category;
+import com.umc.mada.category.domain.Icon;
+import com.umc.mada.todo.domain.Repeat;
+import com.umc.mada.todo.domain.RepeatTodo;
+import com.umc.mada.todo.domain.Todo;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 엔티티 생성
+ * DB 없이 id가 채워진 엔티티를 만들기 위해 @AllArgsConstructor를 사용한다.
+ */
+final class BenchmarkFixtures {
+    static final LocalDate BASE_DATE = LocalDate.of(2024, 1, 1);
+    private static final LocalDateTime BASE_TIME = BASE_DATE.atStartOfDay();
+
+    private BenchmarkFixtures() {
+    }
+
+    static Category category(int id) {
+        Icon icon = new Icon(id % 20 + 1, "icon" + id, "/icon/" + id + ".png", BASE_TIME, BASE_TIME);
+        return new Category(id, null, "카테고리" + id, "#FFAA00", false, null, false, icon, BASE_TIME, BASE_TIME);
+    }
+
+    static Todo todo(int id, Category category, LocalDate date) {
+        return new Todo(id, null, category, "투두" + id, Repeat.N, null, id % 2 == 0,
+                null, null, date, false, BASE_TIME, BASE_TIME);
+    }
+
+    static Todo repeatTodo(int id, Category category, Repeat repeat, Integer repeatInfo, LocalDate start, LocalDate end) {
+        return new Todo(id, null, category, "반복 투두" + id, repeat, repeatInfo, false,
+                start, end, start, false, BASE_TIME, BASE_TIME);
+    }
+
+    // 카테고리 categoryCount개에 하루치 일반 투두 todoCount개를 나눠 담는다.
+    static List<Todo> todos(int todoCount, int categoryCount) {
+        List<Category> categories = new ArrayList<>();
+        for (int i = 1; i <= categoryCount; i++) {
+            categories.add(category(i));
+        }
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 1; i <= todoCount; i++) {
+            todos.add(todo(i, categories.get(i % categoryCount), BASE_DATE));
+        }
+        return todos;
+    }
+
+    // 매일/매주/매월 반복 투두를 번갈아 만든다. (1년 기간)
+    static List<Todo> repeatTodos(int count) {
+        Category category = category(1);
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            switch (i % 3) {
+                case 0:
+                    todos.add(repeatTodo(i, category, Repeat.DAY, null, BASE_DATE, BASE_DATE.plusYears(1)));
+                    break;
+                case 1:
+                    todos.add(repeatTodo(i, category, Repeat.WEEK, i % 7 + 1, BASE_DATE, BASE_DATE.plusYears(1)));
+                    break;
+                default:
+                    todos.add(repeatTodo(i, category, Repeat.MONTH, i % 32, BASE_DATE, BASE_DATE.plusYears(1)));
+                    break;
+            }
+        }
+        return todos;
+    }
+
+    // 반복 투두마다 완료 예외 행 하나와 삭제 예외 행 하나
+    static List<RepeatTodo> exceptions(List<Todo> repeatTodos) {
+        List<RepeatTodo> exceptions = new ArrayList<>();
+        for (Todo todo : repeatTodos) {
+            exceptions.add(new RepeatTodo(todo, todo.getStartRepeatDate().plusDays(7), true, false));
+            exceptions.add(new RepeatTodo(todo, todo.getStartRepeatDate().plusDays(14), false, true));
+        }
+        return exceptions;
+    }
+}
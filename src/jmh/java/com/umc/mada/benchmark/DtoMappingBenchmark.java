@@ -0,0 +1,47 @@
+package com.umc.mada.benchmark;
+
+import com.umc.mada.category.domain.Category;
+import com.umc.mada.category.dto.CategoryResponseDto;
+import com.umc.mada.todo.domain.Todo;
+import com.umc.mada.todo.dto.TodoResponseDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 엔티티 -> 응답 DTO 변환
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+    // 하루에 조회되는 투두 수
+    @Param({"10", "100"})
+    private int todoCount;
+
+    private List<Todo> todos;
+    private Category category;
+
+    @Setup
+    public void setUp() {
+        todos = BenchmarkFixtures.todos(todoCount, 5);
+        category = BenchmarkFixtures.category(1);
+    }
+
+    @Benchmark
+    public CategoryResponseDto categoryOf() {
+        return CategoryResponseDto.of(category);
+    }
+
+    @Benchmark
+    public TodoResponseDto todoOf() {
+        return TodoResponseDto.of(todos.get(0));
+    }
+
+    @Benchmark
+    public List<TodoResponseDto> todoListOf() {
+        return todos.stream().map(TodoResponseDto::of).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,71 @@
+package com.umc.mada.benchmark;
+
+import com.umc.mada.auth.handler.jwt.JwtTokenProvider;
+import com.umc.mada.user.domain.CusomtUserDetails;
+import com.umc.mada.user.domain.Role;
+import com.umc.mada.user.domain.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 JwtAuthenticationFilter에서 실행되는 토큰 검증/인증 객체 생성
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+    private String invalidToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        // @Value, @PostConstruct 대신 직접 주입 (HS512는 64바이트 이상의 키가 필요)
+        jwtTokenProvider = new JwtTokenProvider();
+        byte[] secret = new byte[64];
+        for (int i = 0; i < secret.length; i++) {
+            secret[i] = (byte) i;
+        }
+        Field secretKey = JwtTokenProvider.class.getDeclaredField("SECRET_KEY");
+        secretKey.setAccessible(true);
+        secretKey.set(jwtTokenProvider, Base64.getEncoder().encodeToString(secret));
+        Method init = JwtTokenProvider.class.getDeclaredMethod("init");
+        init.setAccessible(true);
+        init.invoke(jwtTokenProvider);
+
+        User user = User.builder().authId("1234567890").nickname("벤치마크").role(Role.USER).build();
+        Field id = User.class.getDeclaredField("id");
+        id.setAccessible(true);
+        id.set(user, 1L);
+        accessToken = jwtTokenProvider.createAccessToken(CusomtUserDetails.create(user, Collections.emptyMap(), false));
+        invalidToken = accessToken.substring(0, accessToken.length() - 4) + "AAAA";
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    // 서명이 맞지 않는 토큰 (예외 경로)
+    @Benchmark
+    public boolean validateInvalidToken() {
+        return jwtTokenProvider.validateToken(invalidToken);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtTokenProvider.getAuthentication(accessToken);
+    }
+
+    // 필터에서 실제로 일어나는 검증 + 인증 객체 생성
+    @Benchmark
+    public Authentication validateAndAuthenticate() {
+        return jwtTokenProvider.validateToken(accessToken) ? jwtTokenProvider.getAuthentication(accessToken) : null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.umc.mada.benchmark;
+
+import com.umc.mada.todo.domain.Repeat;
+import com.umc.mada.todo.domain.RepeatTodo;
+import com.umc.mada.todo.domain.Todo;
+import com.umc.mada.todo.service.RepeatTodoExpander;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반복 투두 날짜 전개 (기존 TodoService.createRepeatTodos를 대체한 RepeatTodoExpander)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RepeatTodoExpanderBenchmark {
+    private final RepeatTodoExpander expander = new RepeatTodoExpander();
+
+    @Param({"DAY", "WEEK", "MONTH"})
+    private Repeat repeat;
+
+    // 한 사용자가 가진 반복 투두 수
+    @Param({"10", "100"})
+    private int todoCount;
+
+    private Todo yearlyTodo;
+    private List<Todo> repeatTodos;
+    private List<RepeatTodo> exceptions;
+    private LocalDate monthStart;
+    private LocalDate monthEnd;
+
+    @Setup
+    public void setUp() {
+        LocalDate start = BenchmarkFixtures.BASE_DATE;
+        yearlyTodo = BenchmarkFixtures.repeatTodo(1, BenchmarkFixtures.category(1), repeat,
+                repeat == Repeat.DAY ? null : 1, start, start.plusYears(1));
+        repeatTodos = BenchmarkFixtures.repeatTodos(todoCount);
+        exceptions = BenchmarkFixtures.exceptions(repeatTodos);
+        monthStart = start;
+        monthEnd = start.plusMonths(1).minusDays(1);
+    }
+
+    // 반복 투두 생성/수정 시 1년치 날짜 전개
+    @Benchmark
+    public List<LocalDate> expandYear() {
+        return expander.expand(yearlyTodo, yearlyTodo.getStartRepeatDate(), yearlyTodo.getEndRepeatDate());
+    }
+
+    // 홈 화면 하루 조회
+    @Benchmark
+    public boolean occursOn() {
+        return expander.occursOn(yearlyTodo, monthEnd);
+    }
+
+    // 월간 조회: 반복 투두 목록 전개 + 예외 행 병합
+    @Benchmark
+    public List<RepeatTodo> expandMonthWithExceptions() {
+        return expander.expand(repeatTodos, exceptions, monthStart, monthEnd);
+    }
+}
@@ -0,0 +1,71 @@
+package com.umc.mada.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.umc.mada.global.DataResponse;
+import com.umc.mada.todo.domain.RepeatTodo;
+import com.umc.mada.todo.domain.Todo;
+import com.umc.mada.todo.dto.RepeatTodoResponseDto;
+import com.umc.mada.todo.dto.TodoResponseDto;
+import com.umc.mada.todo.dto.UserTodoResponseDto;
+import com.umc.mada.todo.service.RepeatTodoExpander;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 응답 직렬화: 예전 중첩 Map 응답과 DataResponse + DTO 응답 비교 (GET /api/home/todo/date/{date})
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+    @Param({"10", "100"})
+    private int todoCount;
+
+    // 스프링 부트 MVC와 같은 설정 (JavaTimeModule, 날짜를 문자열로 / 빌더 기본값은 타임스탬프이므로 부트처럼 끈다)
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private Map<String, Object> mapResponse;
+    private DataResponse<UserTodoResponseDto> dtoResponse;
+
+    @Setup
+    public void setUp() {
+        List<TodoResponseDto> todos = BenchmarkFixtures.todos(todoCount, 5).stream()
+                .map(TodoResponseDto::of)
+                .collect(Collectors.toList());
+        List<Todo> repeatTodos = BenchmarkFixtures.repeatTodos(todoCount);
+        List<RepeatTodo> occurrences = new RepeatTodoExpander().expand(repeatTodos, BenchmarkFixtures.exceptions(repeatTodos),
+                BenchmarkFixtures.BASE_DATE, BenchmarkFixtures.BASE_DATE);
+        List<RepeatTodoResponseDto> repeatTodoDtos = occurrences.stream()
+                .map(RepeatTodoResponseDto::of)
+                .collect(Collectors.toList());
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("nickname", "벤치마크");
+        data.put("TodoList", todos);
+        data.put("RepeatTodoList", repeatTodoDtos);
+        mapResponse = new HashMap<>();
+        mapResponse.put("data", data);
+
+        dtoResponse = DataResponse.of(new UserTodoResponseDto("벤치마크", todos, repeatTodoDtos));
+    }
+
+    @Benchmark
+    public byte[] serializeMap() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(mapResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dtoResponse);
+    }
+}
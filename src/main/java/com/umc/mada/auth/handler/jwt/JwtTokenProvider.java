@@ -1,5 +1,6 @@
 package com.umc.mada.auth.handler.jwt;
 
+import com.umc.mada.user.domain.CusomtUserDetails;
 import com.umc.mada.user.domain.Role;
 //import com.umc.mada.user.domain.User;
 import io.jsonwebtoken.*;
@@ -28,6 +29,7 @@ public class JwtTokenProvider {
     @Value("${jwt.secret}")
     private String SECRET_KEY;
     private static final String AUTHORITIES_KEY = "authority"; //role로 줄 예정
+    private static final String USER_ID_KEY = "uid"; // 유저 고유 ID (조회 시 authId 검색 생략용)
     private final Long ACCESS_TOKEN_EXPIRE_TIME = 1000L*60*600; //10hour
     private final Long REFRESH_TOKEN_EXPIRE_TIME = 1000L*60*60*24*14; //14day
 
@@ -64,6 +66,9 @@ public class JwtTokenProvider {
 //        Claims claims = Jwts.claims().setSubject((String)attributes.get("id"));
         Claims claims = Jwts.claims().setSubject(oAuth2User.getName()); //authId 저장
         claims.put(AUTHORITIES_KEY, Role.USER);
+        if (oAuth2User instanceof CusomtUserDetails && ((CusomtUserDetails) oAuth2User).getUser().getId() != null) {
+            claims.put(USER_ID_KEY, ((CusomtUserDetails) oAuth2User).getUser().getId());
+        }
 
         return Jwts.builder()
 //                .setSubject(auth) //
@@ -118,7 +123,13 @@ public class JwtTokenProvider {
 
         User user = new User(authId, "", authorities);
 
-        return new UsernamePasswordAuthenticationToken(user, "", authorities);
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(user, "", authorities);
+        // 유저 고유 ID가 담긴 토큰이면 details에 저장 (이전에 발급된 토큰은 authId로 조회)
+        Object userId = claims.get(USER_ID_KEY);
+        if (userId instanceof Number) {
+            authentication.setDetails(((Number) userId).longValue());
+        }
+        return authentication;
     }
 
     //jwt 토큰 복호화한 후 정보 추출
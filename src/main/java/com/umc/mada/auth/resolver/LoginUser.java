@@ -0,0 +1,15 @@
+package com.umc.mada.auth.resolver;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 파라미터에 로그인한 유저(User)를 주입받을 때 사용
+ * ex) public ResponseEntity<?> getUserTodo(@LoginUser User user)
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginUser {
+}
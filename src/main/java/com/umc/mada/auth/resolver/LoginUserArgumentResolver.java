@@ -0,0 +1,57 @@
+package com.umc.mada.auth.resolver;
+
+import com.umc.mada.user.domain.User;
+import com.umc.mada.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * @LoginUser User 파라미터를 요청당 한 번만 조회해서 주입한다.
+ * 토큰에 유저 고유 ID(uid)가 있으면 authId 검색 대신 기본 키로 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver {
+    private static final String LOGIN_USER_ATTRIBUTE = LoginUserArgumentResolver.class.getName() + ".USER";
+
+    private final UserRepository userRepository;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LoginUser.class) && User.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        // 같은 요청 안에서는 이미 조회한 유저 재사용
+        Object cached = webRequest.getAttribute(LOGIN_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached != null) {
+            return cached;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            throw new IllegalArgumentException("NOT_FOUND_ERROR");
+        }
+
+        User user;
+        if (authentication.getDetails() instanceof Long) {
+            // 조회 요청도 대부분 닉네임, 설정 등을 바로 읽으므로 프록시 대신 엔티티를 조회한다. (없는 유저는 여기서 실패)
+            user = userRepository.findById((Long) authentication.getDetails())
+                    .orElseThrow(() -> new IllegalArgumentException("NOT_FOUND_ERROR"));
+        } else {
+            user = userRepository.findByAuthId(authentication.getName())
+                    .orElseThrow(() -> new IllegalArgumentException("NOT_FOUND_ERROR"));
+        }
+        webRequest.setAttribute(LOGIN_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        return user;
+    }
+}
@@ -1,14 +1,25 @@
 package com.umc.mada.calendar.controller;
 
+import com.umc.mada.auth.resolver.LoginUser;
+import com.umc.mada.calendar.dto.CalendarListResponseDto;
 import com.umc.mada.calendar.dto.CalendarRequestDto;
 import com.umc.mada.calendar.dto.CalendarResponseDto;
+import com.umc.mada.calendar.service.CalendarIcsService;
 import com.umc.mada.calendar.service.CalendarService;
+import com.umc.mada.config.StreamingExecutorConfig;
+import com.umc.mada.global.DataResponse;
+import com.umc.mada.user.domain.User;
 import java.time.LocalDate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import java.util.*;
 
@@ -16,47 +27,74 @@ import java.util.*;
 @RequestMapping("/api/calendar")
 public class CalendarController {
     private final CalendarService calendarService;
+    private final CalendarIcsService calendarIcsService;
     @Autowired
-    public CalendarController(CalendarService calendarService) {
+    public CalendarController(CalendarService calendarService, CalendarIcsService calendarIcsService) {
         this.calendarService = calendarService;
+        this.calendarIcsService = calendarIcsService;
     }
 
     @GetMapping("/")
-    ResponseEntity<Map<String,Object>> calendarRead(Authentication authentication){
-        return ResponseEntity.ok(calendarService.readCalendars(authentication));
+    ResponseEntity<DataResponse<CalendarListResponseDto>> calendarRead(@LoginUser User user){
+        return ResponseEntity.ok(calendarService.readCalendars(user));
     }
 
     @PostMapping("/add") //로그인 구현 이후 토큰으로 사용
-    ResponseEntity<Map<String,Object>> calendarAdd(Authentication authentication, @RequestBody CalendarRequestDto calendarDto){
+    ResponseEntity<Map<String,Object>> calendarAdd(@LoginUser User user, @RequestBody CalendarRequestDto calendarDto){
         Map<String,Object> map;
-        map = calendarService.createCalendar(authentication,calendarDto);
+        map = calendarService.createCalendar(user,calendarDto);
         return ResponseEntity.ok(map);
     }
     @PatchMapping("/edit/{id}")
-    ResponseEntity<Map<String,Object>> calendarEdit(Authentication authentication, @PathVariable Long id, @RequestBody CalendarRequestDto calendarRequestDto){
+    ResponseEntity<Map<String,Object>> calendarEdit(@LoginUser User user, @PathVariable Long id, @RequestBody CalendarRequestDto calendarRequestDto){
         Map<String,Object> map = new LinkedHashMap<>();
         Map<String,Object> data ;
-        data = calendarService.editCalendar(authentication,id,calendarRequestDto);
+        data = calendarService.editCalendar(user,id,calendarRequestDto);
         map.put("data", data);
         return ResponseEntity.ok(map);
     }
     @DeleteMapping("/edit/{id}")
-    ResponseEntity<Map<String,Object>> calendarDelete(Authentication authentication, @PathVariable Long id ){
+    ResponseEntity<Map<String,Object>> calendarDelete(@LoginUser User user, @PathVariable Long id,
+                                                      @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date){
+        // date가 있으면 반복 일정의 해당 회차만 삭제
         Map<String,Object> map = new LinkedHashMap<>();
-        map.put("data",calendarService.deleteCalendar(authentication,id));
+        map.put("data",calendarService.deleteCalendar(user,id,date));
         return ResponseEntity.ok(map);
     }
     @GetMapping("/dday")
-    ResponseEntity<Map<String,Object>> readD_days(Authentication authentication){
-        return ResponseEntity.ok(calendarService.readDday(authentication));
+    ResponseEntity<DataResponse<CalendarListResponseDto>> readD_days(@LoginUser User user){
+        return ResponseEntity.ok(calendarService.readDday(user));
     }
     @GetMapping("/?{year}&{month}")
-    ResponseEntity<Map<String,Object>> readCalendarByMonth(Authentication authentication ,@PathVariable int year ,@PathVariable int month){
-        return ResponseEntity.ok(calendarService.readMonthCalendar(authentication,year,month));
+    ResponseEntity<DataResponse<CalendarListResponseDto>> readCalendarByMonth(@LoginUser User user ,@PathVariable int year ,@PathVariable int month){
+        return ResponseEntity.ok(calendarService.readMonthCalendar(user,year,month));
     }
     @GetMapping("/?{date}")
-    ResponseEntity<Map<String,Object>> readCalendarByDate(Authentication authentication, @PathVariable @DateTimeFormat(pattern = "yyyy-MM-DD") LocalDate date){
-        return ResponseEntity.ok(calendarService.readDayCalendars(authentication,date));
+    ResponseEntity<DataResponse<CalendarListResponseDto>> readCalendarByDate(@LoginUser User user, @PathVariable @DateTimeFormat(pattern = "yyyy-MM-DD") LocalDate date){
+        return ResponseEntity.ok(calendarService.readDayCalendars(user,date));
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/calendar", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+        // .ics 일정 가져오기 API (요청 본문을 읽으면서 저장하고, 청크마다 진행 상황을 한 줄씩 응답)
+    public WebAsyncTask<Void> importCalendars(@LoginUser User user, HttpServletRequest request, HttpServletResponse response,
+                                              @RequestParam(value = "color", required = false) String color){
+        response.setContentType("application/x-ndjson");
+        return new WebAsyncTask<>(StreamingExecutorConfig.STREAMING_TIMEOUT_MILLIS, "streamingExecutor", () -> {
+            calendarIcsService.importIcs(user, request.getInputStream(), color, response.getOutputStream());
+            response.flushBuffer();
+            return null;
+        });
     }
 
+    @GetMapping("/export")
+        // .ics 일정 내보내기 API
+    public WebAsyncTask<Void> exportCalendars(@LoginUser User user, HttpServletResponse response){
+        response.setContentType("text/calendar;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"calendars.ics\"");
+        return new WebAsyncTask<>(StreamingExecutorConfig.STREAMING_TIMEOUT_MILLIS, "streamingExecutor", () -> {
+            calendarIcsService.exportIcs(user, response.getOutputStream());
+            response.flushBuffer();
+            return null;
+        });
+    }
 }
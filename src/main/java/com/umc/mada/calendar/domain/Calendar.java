@@ -21,7 +21,13 @@ import java.time.LocalTime;
 @NoArgsConstructor
 @Builder
 
-@Table(name = "CALENDAR")
+@Table(name = "CALENDAR", indexes = {
+        @Index(name = "idx_calendar_user_update", columnList = "user_id, update_at, id"),
+        @Index(name = "idx_calendar_user_range", columnList = "user_id, is_expired, start_date, end_date"),
+        @Index(name = "idx_calendar_user_dday", columnList = "user_id, d_day, is_expired")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_calendar_repeat_occurrence", columnNames = {"repeat_parent_id", "original_date"})
+})
 public class Calendar {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -52,6 +58,24 @@ public class Calendar {
     private boolean isExpired;
     // TODO: 2023-09-01 isExpirde 데이터베이스에 컬럼 추가하기
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "`repeat`", length = 10)
+    private CalendarRepeat repeat; // 반복 설정 (null 또는 N: 반복 안함, DAY/WEEK/MONTH/YEAR: 매일/매주/매월/매년 반복)
+    @Column(name = "repeat_interval")
+    private Integer repeatInterval; // 반복 간격 (2면 격주, 격월 등)
+    @Column(name = "repeat_until")
+    private LocalDate repeatUntil; // 반복 종료 일자 (이 날짜까지 시작하는 회차 포함)
+    @Column(name = "repeat_count")
+    private Integer repeatCount; // 반복 횟수
+    @Column(name = "repeat_end_date")
+    private LocalDate repeatEndDate; // 마지막 회차 종료 일자 (종료 조건이 없으면 null)
+
+    // 반복 일정에서 한 회차만 수정/삭제한 경우의 예외 행 (삭제한 회차는 is_expired = 1)
+    @Column(name = "repeat_parent_id")
+    private Long repeatParentId; // 원래 반복 일정 ID
+    @Column(name = "original_date")
+    private LocalDate originalDate; // 원래 회차 시작 일자
+
     @CreationTimestamp
     @Column(name = "create_at", updatable = false)
     private LocalDateTime createdAt; // 생성 시간
@@ -59,4 +83,9 @@ public class Calendar {
     @UpdateTimestamp
     @Column(name = "update_at")
     private LocalDateTime updatedAt; // 수정 시간
+
+    // 반복 규칙이 있는 일정 여부 (회차 예외 행은 반복 규칙이 없다)
+    public boolean isRepeating() {
+        return repeat != null && repeat != CalendarRepeat.N;
+    }
 }
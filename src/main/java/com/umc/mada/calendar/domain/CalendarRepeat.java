@@ -0,0 +1,14 @@
+package com.umc.mada.calendar.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum CalendarRepeat {
+    N,
+    DAY,
+    WEEK,
+    MONTH,
+    YEAR
+}
@@ -0,0 +1,17 @@
+package com.umc.mada.calendar.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+// 캘린더 목록 조회 응답
+@Getter
+public class CalendarListResponseDto {
+   private final boolean startTodoAtMonday;
+   private final List<CalendarResponseDto> calendars;
+
+   public CalendarListResponseDto(boolean startTodoAtMonday, List<CalendarResponseDto> calendars) {
+      this.startTodoAtMonday = startTodoAtMonday;
+      this.calendars = calendars;
+   }
+}
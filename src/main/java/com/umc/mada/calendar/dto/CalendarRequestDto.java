@@ -1,5 +1,6 @@
 package com.umc.mada.calendar.dto;
 
+import com.umc.mada.calendar.domain.CalendarRepeat;
 import lombok.*;
 import reactor.util.annotation.Nullable;
 
@@ -27,4 +28,16 @@ public class CalendarRequestDto {
     private String memo;
     @Nullable
     private Boolean isExpired;
+
+    @Nullable
+    private CalendarRepeat repeat;
+    @Nullable
+    private Integer repeatInterval;
+    @Nullable
+    private LocalDate repeatUntil;
+    @Nullable
+    private Integer repeatCount;
+    // 반복 일정의 한 회차만 수정할 때 그 회차의 원래 시작 일자
+    @Nullable
+    private LocalDate originalDate;
 }
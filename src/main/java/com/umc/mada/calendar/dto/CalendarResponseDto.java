@@ -1,5 +1,8 @@
 package com.umc.mada.calendar.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.umc.mada.calendar.domain.Calendar;
+import com.umc.mada.calendar.domain.CalendarRepeat;
 import lombok.*;
 import org.joda.time.DateTime;
 
@@ -11,10 +14,11 @@ import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 
 @AllArgsConstructor
 @NoArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 
 @Getter
 @Setter
@@ -31,4 +35,44 @@ public class CalendarResponseDto {
    private String color;
 
    private boolean isExpired;
+
+   private CalendarRepeat repeat;
+   private Integer repeatInterval;
+   private LocalDate repeatUntil;
+   private Integer repeatCount;
+   private Long repeatParentId;
+   private LocalDate originalDate; // 반복 일정 회차의 원래 시작 일자 (회차를 수정/삭제할 때 사용)
+
+   @JsonInclude(JsonInclude.Include.NON_NULL)
+   private Integer remainingDays; // D-day 조회 시 시작일까지 남은 일수 (당일 0, 진행 중이면 음수)
+
+   public static CalendarResponseDto of(Calendar calendar){
+      return CalendarResponseDto.builder()
+              .calendarId(calendar.getId())
+              .calendarName(calendar.getCalendarName())
+              .startDate(calendar.getStartDate())
+              .endDate(calendar.getEndDate())
+              .startTime(calendar.getStartTime())
+              .endTime(calendar.getEndTime())
+              .color(calendar.getColor())
+              .dday(calendar.getDday())
+              .memo(calendar.getMemo())
+              .isExpired(calendar.isExpired())
+              .repeat(calendar.getRepeat())
+              .repeatInterval(calendar.getRepeatInterval())
+              .repeatUntil(calendar.getRepeatUntil())
+              .repeatCount(calendar.getRepeatCount())
+              .repeatParentId(calendar.getRepeatParentId())
+              .originalDate(calendar.getOriginalDate())
+              .build();
+   }
+
+   // 반복 일정의 date에 시작하는 회차 (일정 기간은 첫 회차와 같다)
+   public CalendarResponseDto occurrence(LocalDate date){
+      return this.toBuilder()
+              .startDate(date)
+              .endDate(date.plusDays(ChronoUnit.DAYS.between(startDate, endDate)))
+              .originalDate(date)
+              .build();
+   }
 }
@@ -2,29 +2,137 @@ package com.umc.mada.calendar.repository;
 
 import com.umc.mada.calendar.domain.Calendar;
 import com.umc.mada.user.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 @Repository
-public interface CalendarRepository extends JpaRepository<Calendar,Long> {
+public interface CalendarRepository extends JpaRepository<Calendar,Long>, CalendarRepositoryCustom {
     //Optional<Calendar> findCalendarById(Long id); 캘린더 고유 아이디로 캘린더 조회
     List<Calendar> findAllByUser(User user);
     List<Calendar> findAllByUserAndDday(User user,char dday);
     Optional<Calendar> findCalendarByUserAndId(User user, Long id);
     List<Calendar> findCalendarsByUserAndStartDateLessThanEqualAndEndDateGreaterThanEqual(User user, LocalDate start_date, LocalDate end_date);
 
+    // 만료되지 않은 캘린더 전체와 반복 일정의 회차 예외 행(삭제한 회차 포함) 조회 (CalendarCache 적재용)
+    @Query(
+            "select c " +
+            "from Calendar c " +
+            "where c.user = :user " +
+            "and (c.isExpired = false or c.repeatParentId is not null)"
+    )
+    List<Calendar> findUserCalendars(@Param("user") User user);
+
+    // 기간 [from, to]과 겹치는 만료되지 않은 단일 일정과 회차 예외 행 조회 (idx_calendar_user_range 범위 스캔, 반복 일정 제외)
+    @Query(
+            "select c " +
+            "from Calendar c " +
+            "where c.user = :user " +
+            "and c.isExpired = false " +
+            "and (c.repeat is null or c.repeat = com.umc.mada.calendar.domain.CalendarRepeat.N) " +
+            "and c.startDate <= :to and c.endDate >= :from " +
+            "order by c.startDate, c.id"
+    )
+    List<Calendar> findUserCalendarsBetween(@Param("user") User user, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 기간 [from, to]에 회차가 있을 수 있는 반복 일정 조회 (첫 회차가 to 이전에 시작하고 마지막 회차가 from 이후에 끝나는 일정)
+    @Query(
+            "select c " +
+            "from Calendar c " +
+            "where c.user = :user " +
+            "and c.isExpired = false " +
+            "and c.repeat is not null and c.repeat <> com.umc.mada.calendar.domain.CalendarRepeat.N " +
+            "and c.startDate <= :to and (c.repeatEndDate is null or c.repeatEndDate >= :from)"
+    )
+    List<Calendar> findUserRepeatsBetween(@Param("user") User user, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // today 이후에 끝나는 D-day 일정 조회 (반복 일정은 마지막 회차가 끝나지 않은 경우, idx_calendar_user_dday)
+    // is_expired는 삭제 표시이므로 지난 D-day는 만료시키지 않고 날짜로 거른다.
+    @Query(
+            "select c " +
+            "from Calendar c " +
+            "where c.user = :user " +
+            "and c.dday = 'Y' " +
+            "and c.isExpired = false " +
+            "and (c.endDate >= :today or c.repeatEndDate >= :today " +
+            "or (c.repeat is not null and c.repeat <> com.umc.mada.calendar.domain.CalendarRepeat.N and c.repeatEndDate is null))"
+    )
+    List<Calendar> findUserDdays(@Param("user") User user, @Param("today") LocalDate today);
+
+    // 반복 일정들의 from 이후 회차 예외 행 조회 (삭제한 회차 포함)
+    @Query(
+            "select c " +
+            "from Calendar c " +
+            "where c.repeatParentId in :repeatParentIds " +
+            "and c.originalDate >= :from"
+    )
+    List<Calendar> findRepeatOverridesFrom(@Param("repeatParentIds") Collection<Long> repeatParentIds, @Param("from") LocalDate from);
+
+    // 반복 일정들의 회차 시작 일자가 [from, to]인 회차 예외 행 조회 (삭제한 회차 포함, uk_calendar_repeat_occurrence)
+    @Query(
+            "select c " +
+            "from Calendar c " +
+            "where c.repeatParentId in :repeatParentIds " +
+            "and c.originalDate between :from and :to"
+    )
+    List<Calendar> findRepeatOverridesBetween(@Param("repeatParentIds") Collection<Long> repeatParentIds, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 내보내기용 만료되지 않은 일정 전체 조회 (MySQL 드라이버가 행 단위로 스트리밍하도록 fetch size를 Integer.MIN_VALUE로 지정)
+    // 스트림이 열려 있는 동안 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로 유저도 함께 읽는다.
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select c from Calendar c join fetch c.user " +
+            "where c.user = :user and c.isExpired = false order by c.id")
+    Stream<Calendar> streamUserCalendars(@Param("user") User user);
+
+    // 삭제한 반복 일정 회차 조회 (내보내기 시 EXDATE)
+    @Query(
+            "select c " +
+            "from Calendar c " +
+            "where c.user = :user " +
+            "and c.repeatParentId is not null " +
+            "and c.isExpired = true"
+    )
+    List<Calendar> findUserDeletedOccurrences(@Param("user") User user);
+
+    // 반복 일정의 회차 예외 행 조회
+    Optional<Calendar> findCalendarByUserAndRepeatParentIdAndOriginalDate(User user, Long repeatParentId, LocalDate originalDate);
+
+    // 반복 일정의 모든 회차 예외 행 일괄 만료 처리 (반복 일정 삭제 시, 변경된 행 수 반환)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Calendar c set c.isExpired = true, c.updatedAt = :now " +
+            "where c.repeatParentId = :repeatParentId and c.isExpired = false")
+    int expireRepeatOverrides(@Param("repeatParentId") Long repeatParentId, @Param("now") LocalDateTime now);
+
+    // 반복 일정의 모든 회차 예외 행 분리 (반복 설정 변경 시, 변경된 행 수 반환)
+    // 동기화 클라이언트가 삭제를 알 수 있도록 행을 지우지 않고 만료 처리하며, 삭제한 회차(EXDATE)로 읽히지 않도록 반복 일정과의 연결을 끊는다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Calendar c set c.isExpired = true, c.repeatParentId = null, c.updatedAt = :now " +
+            "where c.repeatParentId = :repeatParentId")
+    int detachRepeatOverrides(@Param("repeatParentId") Long repeatParentId, @Param("now") LocalDateTime now);
+
+    // 동기화 커서 이후 변경된 캘린더 조회 (만료 포함, update_at/id 키셋 페이징, before 이전에 수정된 행만)
     @Query(
             "select c " +
             "from Calendar c " +
             "where c.user = :user " +
-            "and c.isExpired = false "+
-            "and YEAR(c.startDate) <= :y and YEAR(c.endDate) >= :y " +
-            "and MONTH(c.startDate) <= :m and MONTH(c.endDate) >= :m "
+            "and (c.updatedAt > :updatedAt or (c.updatedAt = :updatedAt and c.id > :id)) " +
+            "and c.updatedAt < :before " +
+            "order by c.updatedAt, c.id"
     )
-    List<Calendar> findCalendarMonth(User user , int y, int m);
+    List<Calendar> findUserCalendarsUpdatedAfter(@Param("user") User user, @Param("updatedAt") LocalDateTime updatedAt, @Param("id") Long id, @Param("before") LocalDateTime before, Pageable pageable);
 }
@@ -0,0 +1,14 @@
+package com.umc.mada.calendar.repository;
+
+import com.umc.mada.calendar.domain.Calendar;
+
+import java.util.List;
+
+public interface CalendarRepositoryCustom {
+    // 일정 일괄 저장 (JDBC 배치, 생성된 ID를 저장 순서대로 반환)
+    List<Long> insertAll(Long userId, List<Calendar> calendars);
+
+    // 일정 일괄 저장 (반복 일정 회차 예외 행처럼 이미 있는 행과 겹치면 건너뛴다)
+    // 드라이버 기본 설정(useAffectedRows=false)에서는 겹친 행도 변경된 행으로 세므로 저장한 행 수는 반환하지 않는다.
+    void insertAllIfAbsent(Long userId, List<Calendar> calendars);
+}
@@ -0,0 +1,93 @@
+package com.umc.mada.calendar.repository;
+
+import com.umc.mada.calendar.domain.Calendar;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일정 대량 저장 (.ics 가져오기)
+ * IDENTITY 전략에서는 Hibernate가 INSERT를 배치로 보내지 않으므로 JDBC 배치로 직접 저장한다.
+ * (MySQL은 rewriteBatchedStatements=true일 때 여러 행을 INSERT 한 번으로 보낸다)
+ */
+@RequiredArgsConstructor
+public class CalendarRepositoryImpl implements CalendarRepositoryCustom {
+    private static final String COLUMNS = "(user_id, calendar_name, color, start_date, end_date, start_time, end_time, d_day, memo, is_expired, " +
+            "`repeat`, repeat_interval, repeat_until, repeat_count, repeat_end_date, repeat_parent_id, original_date, create_at, update_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SQL = "INSERT INTO CALENDAR " + COLUMNS;
+    // 유니크 키 (repeat_parent_id, original_date) 충돌 시 기존 행을 유지한다. (INSERT IGNORE와 달리 다른 오류나 경고는 숨기지 않는다)
+    private static final String INSERT_IF_ABSENT_SQL = "INSERT INTO CALENDAR " + COLUMNS + " ON DUPLICATE KEY UPDATE id = id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> insertAll(Long userId, List<Calendar> calendars) {
+        List<Long> ids = new ArrayList<>(calendars.size());
+        if (calendars.isEmpty()) {
+            return ids;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.execute((Connection connection) -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Calendar calendar : calendars) {
+                    bind(ps, userId, calendar, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+            }
+            return ids;
+        });
+    }
+
+    @Override
+    public void insertAllIfAbsent(Long userId, List<Calendar> calendars) {
+        if (calendars.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, calendars, calendars.size(), (ps, calendar) -> bind(ps, userId, calendar, now));
+    }
+
+    // create_at/update_at은 @CreationTimestamp/@UpdateTimestamp와 같이 서버 시각으로 저장한다. (동기화 커서 기준)
+    private static void bind(PreparedStatement ps, Long userId, Calendar calendar, Timestamp now) throws SQLException {
+        ps.setLong(1, userId);
+        ps.setString(2, calendar.getCalendarName());
+        ps.setString(3, calendar.getColor());
+        ps.setObject(4, toDate(calendar.getStartDate()));
+        ps.setObject(5, toDate(calendar.getEndDate()));
+        ps.setObject(6, toTime(calendar.getStartTime()));
+        ps.setObject(7, toTime(calendar.getEndTime()));
+        ps.setObject(8, calendar.getDday() == null ? null : String.valueOf(calendar.getDday()));
+        ps.setString(9, calendar.getMemo());
+        ps.setBoolean(10, calendar.isExpired());
+        ps.setString(11, calendar.getRepeat() == null ? null : calendar.getRepeat().name());
+        ps.setObject(12, calendar.getRepeatInterval());
+        ps.setObject(13, toDate(calendar.getRepeatUntil()));
+        ps.setObject(14, calendar.getRepeatCount());
+        ps.setObject(15, toDate(calendar.getRepeatEndDate()));
+        ps.setObject(16, calendar.getRepeatParentId());
+        ps.setObject(17, toDate(calendar.getOriginalDate()));
+        ps.setTimestamp(18, now);
+        ps.setTimestamp(19, now);
+    }
+
+    private static Date toDate(LocalDate date) {
+        return date == null ? null : Date.valueOf(date);
+    }
+
+    private static Time toTime(LocalTime time) {
+        return time == null ? null : Time.valueOf(time);
+    }
+}
@@ -0,0 +1,287 @@
+package com.umc.mada.calendar.service;
+
+import com.umc.mada.calendar.domain.Calendar;
+import com.umc.mada.calendar.dto.CalendarResponseDto;
+import com.umc.mada.calendar.repository.CalendarRepository;
+import com.umc.mada.global.cache.ExpiringLruCache;
+import com.umc.mada.user.domain.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * 유저별 캘린더 캐시 (일정 조회용)
+ * 전체 조회 때 만료되지 않은 일정 전체를 구간 트리로 불러오고, 트리가 있는 동안 일/월 조회는 DB 없이 트리에서 찾는다.
+ * 트리가 없으면(처음 조회하거나 비워진 경우) 일/월 조회는 일정 전체를 불러오지 않고 기간과 겹치는 행만 범위 조회한다.
+ * 반복 일정은 트리에 넣지 않고 조회 기간에 대해서만 CalendarRepeatExpander로 펼친다.
+ * 일정이 생성/수정/삭제되면 CalendarService가 커밋 이후 트리에 바로 반영한다.
+ * D-day 목록은 D-day 일정만 따로 조회해서 남은 일수를 계산하고, 날짜가 바뀌거나 일정이 바뀔 때까지 재사용한다.
+ * DB 조회는 잠금 밖에서 하므로, 조회하는 동안 유저의 일정이 바뀌었으면(세대가 바뀌었으면) 조회 결과를 캐시에 넣지 않는다.
+ */
+@Component
+public class CalendarCache {
+    private static final int MAX_USERS = 10_000;
+    private static final long TTL_MILLIS = 10 * 60 * 1000L; // 10분
+    private static final long DDAY_TTL_MILLIS = 60 * 60 * 1000L; // 1시간 (날짜가 바뀌면 TTL과 관계없이 다시 계산)
+    private static final int GENERATION_STRIPES = 4096;
+    private static final Comparator<CalendarResponseDto> BY_START_DATE =
+            Comparator.comparing(CalendarResponseDto::getStartDate).thenComparing(CalendarResponseDto::getCalendarId);
+
+    private final CalendarRepository calendarRepository;
+    private final CalendarRepeatExpander calendarRepeatExpander;
+    private final ExpiringLruCache<Long, UserCalendars> cache = new ExpiringLruCache<>(MAX_USERS, TTL_MILLIS);
+    private final ExpiringLruCache<Long, Ddays> ddays = new ExpiringLruCache<>(MAX_USERS, DDAY_TTL_MILLIS);
+    // 유저별 변경 세대 (유저 ID로 나눈 칸마다 하나, 같은 칸의 다른 유저가 바뀌면 한 번 더 조회할 뿐이다)
+    // 세대 변경과 캐시 반영/삭제, 세대 확인과 캐시 저장은 모두 lock 안에서 한다.
+    private final long[] generations = new long[GENERATION_STRIPES];
+    private final Object lock = new Object();
+
+    @Autowired
+    public CalendarCache(CalendarRepository calendarRepository, CalendarRepeatExpander calendarRepeatExpander) {
+        this.calendarRepository = calendarRepository;
+        this.calendarRepeatExpander = calendarRepeatExpander;
+    }
+
+    // 만료되지 않은 일정 전체 (반복 일정은 펼치지 않음, id 순)
+    public List<CalendarResponseDto> findAll(User user) {
+        return calendars(user).all();
+    }
+
+    // 기간 [from, to]과 겹치는 일정과 반복 일정 회차 (시작일, id 순)
+    public List<CalendarResponseDto> findBetween(User user, LocalDate from, LocalDate to) {
+        UserCalendars calendars = cache.get(user.getId());
+        if (calendars != null) {
+            return calendars.between(from, to);
+        }
+        return loadBetween(user, from, to);
+    }
+
+    // today 기준 D-day 일정 (반복 일정은 다음 회차, 남은 일수 오름차순)
+    public List<CalendarResponseDto> findDdays(User user, LocalDate today) {
+        Long userId = user.getId();
+        Ddays cached = ddays.get(userId);
+        if (cached == null || !cached.date.equals(today)) {
+            long generation = generation(userId);
+            cached = new Ddays(today, loadDdays(user, today));
+            putIfUnchanged(ddays, userId, cached, generation);
+        }
+        return cached.calendars;
+    }
+
+    // 일정 저장 후 호출 (만료된 일정은 트리에서 제거된다)
+    public void saved(User user, Calendar calendar) {
+        Long userId = user.getId();
+        CalendarResponseDto snapshot = CalendarResponseDto.of(calendar);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋 전에 반영하면 롤백된 일정이 남을 수 있으므로 커밋 이후 반영한다.
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(userId, snapshot);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        evictNow(userId);
+                    }
+                }
+            });
+        } else {
+            apply(userId, snapshot);
+        }
+    }
+
+    // 여러 행이 한 번에 바뀐 경우 (반복 일정 삭제, 반복 설정 변경 등) 유저의 캐시를 비운다.
+    // 트랜잭션 중이면 커밋 이후에도 한 번 더 비워서 커밋 전 값이 다시 캐시되지 않게 한다.
+    public void evict(User user) {
+        Long userId = user.getId();
+        evictNow(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(userId);
+                }
+            });
+        }
+    }
+
+    // 캐시가 이미 있는 유저만 반영 (없으면 다음 조회 시 DB에서 불러온다)
+    private void apply(Long userId, CalendarResponseDto snapshot) {
+        UserCalendars calendars;
+        synchronized (lock) {
+            // 지금 불러오는 중인 트리는 이 변경 이전 값일 수 있으므로 저장되지 않게 세대를 올린다.
+            generations[stripe(userId)]++;
+            ddays.evict(userId);
+            calendars = cache.get(userId);
+        }
+        if (calendars != null) {
+            calendars.put(snapshot);
+        }
+    }
+
+    private void evictNow(Long userId) {
+        synchronized (lock) {
+            generations[stripe(userId)]++;
+            cache.evict(userId);
+            ddays.evict(userId);
+        }
+    }
+
+    private UserCalendars calendars(User user) {
+        Long userId = user.getId();
+        UserCalendars calendars = cache.get(userId);
+        if (calendars != null) {
+            return calendars;
+        }
+        long generation = generation(userId);
+        calendars = new UserCalendars();
+        for (Calendar calendar : calendarRepository.findUserCalendars(user)) {
+            calendars.put(CalendarResponseDto.of(calendar));
+        }
+        putIfUnchanged(cache, userId, calendars, generation);
+        return calendars;
+    }
+
+    private long generation(Long userId) {
+        synchronized (lock) {
+            return generations[stripe(userId)];
+        }
+    }
+
+    // 조회를 시작한 뒤로 유저의 일정이 바뀌지 않았을 때만 저장 (바뀌었으면 이번 조회에만 쓰고 버린다)
+    private <V> void putIfUnchanged(ExpiringLruCache<Long, V> target, Long userId, V value, long generation) {
+        synchronized (lock) {
+            if (generations[stripe(userId)] == generation) {
+                target.put(userId, value);
+            }
+        }
+    }
+
+    private static int stripe(Long userId) {
+        return (int) Math.floorMod(userId, (long) GENERATION_STRIPES);
+    }
+
+    // 기간 [from, to]과 겹치는 행만 DB에서 조회 (idx_calendar_user_range, 반복 일정은 기간 안의 예외 행만 읽어서 펼친다)
+    private List<CalendarResponseDto> loadBetween(User user, LocalDate from, LocalDate to) {
+        List<CalendarResponseDto> result = new ArrayList<>();
+        for (Calendar calendar : calendarRepository.findUserCalendarsBetween(user, from, to)) {
+            result.add(CalendarResponseDto.of(calendar));
+        }
+
+        List<CalendarResponseDto> repeats = new ArrayList<>();
+        List<Long> repeatIds = new ArrayList<>();
+        long maxDuration = 0;
+        for (Calendar calendar : calendarRepository.findUserRepeatsBetween(user, from, to)) {
+            repeats.add(CalendarResponseDto.of(calendar));
+            repeatIds.add(calendar.getId());
+            maxDuration = Math.max(maxDuration, ChronoUnit.DAYS.between(calendar.getStartDate(), calendar.getEndDate()));
+        }
+        if (!repeats.isEmpty()) {
+            // from에 걸쳐 있는 회차까지 포함하도록 가장 긴 일정 기간만큼 앞에서부터 읽는다.
+            Map<Long, Set<LocalDate>> overridden = new HashMap<>();
+            for (Calendar override : calendarRepository.findRepeatOverridesBetween(repeatIds, from.minusDays(maxDuration), to)) {
+                overridden.computeIfAbsent(override.getRepeatParentId(), id -> new HashSet<>()).add(override.getOriginalDate());
+            }
+            result.addAll(calendarRepeatExpander.expand(repeats, overridden, from, to));
+        }
+        result.sort(BY_START_DATE);
+        return result;
+    }
+
+    private List<CalendarResponseDto> loadDdays(User user, LocalDate today) {
+        List<Calendar> calendars = calendarRepository.findUserDdays(user, today);
+
+        // 반복 일정은 오늘 이후 회차의 예외 행만 읽는다. (오늘 걸쳐 있는 회차 포함)
+        List<Long> repeatIds = new ArrayList<>();
+        long maxDuration = 0;
+        for (Calendar calendar : calendars) {
+            if (calendar.isRepeating()) {
+                repeatIds.add(calendar.getId());
+                maxDuration = Math.max(maxDuration, ChronoUnit.DAYS.between(calendar.getStartDate(), calendar.getEndDate()));
+            }
+        }
+        Map<Long, Set<LocalDate>> overridden = new HashMap<>();
+        if (!repeatIds.isEmpty()) {
+            for (Calendar override : calendarRepository.findRepeatOverridesFrom(repeatIds, today.minusDays(maxDuration))) {
+                overridden.computeIfAbsent(override.getRepeatParentId(), id -> new HashSet<>()).add(override.getOriginalDate());
+            }
+        }
+
+        List<CalendarResponseDto> result = new ArrayList<>();
+        for (Calendar calendar : calendars) {
+            CalendarResponseDto dday = CalendarResponseDto.of(calendar);
+            if (calendar.isRepeating()) {
+                LocalDate next = calendarRepeatExpander.nextOccurrence(dday, today,
+                        overridden.getOrDefault(calendar.getId(), Collections.emptySet()));
+                if (next == null) {
+                    continue;
+                }
+                dday = dday.occurrence(next);
+            } else if (dday.getStartDate() == null || dday.getEndDate() == null) {
+                continue;
+            }
+            dday.setRemainingDays((int) ChronoUnit.DAYS.between(today, dday.getStartDate()));
+            result.add(dday);
+        }
+        result.sort(Comparator.comparing(CalendarResponseDto::getRemainingDays).thenComparing(CalendarResponseDto::getCalendarId));
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * 유저 한 명의 D-day 목록 (계산한 날짜 기준)
+     */
+    private static class Ddays {
+        private final LocalDate date;
+        private final List<CalendarResponseDto> calendars;
+
+        private Ddays(LocalDate date, List<CalendarResponseDto> calendars) {
+            this.date = date;
+            this.calendars = calendars;
+        }
+    }
+
+    /**
+     * 유저 한 명의 일정 (단일 일정과 회차 예외 행은 구간 트리, 반복 일정은 따로 보관)
+     */
+    private class UserCalendars {
+        private final CalendarIntervalTree tree = new CalendarIntervalTree(Collections.emptyList());
+        private final Map<Long, CalendarResponseDto> repeats = new HashMap<>();
+        // 반복 일정 ID별 예외 행이 있는 회차 시작 일자 (삭제한 회차 포함)
+        private final Map<Long, Set<LocalDate>> overridden = new HashMap<>();
+
+        private synchronized void put(CalendarResponseDto calendar) {
+            Long calendarId = calendar.getCalendarId();
+            repeats.remove(calendarId);
+            tree.remove(calendarId);
+            if (calendar.getRepeatParentId() != null) {
+                overridden.computeIfAbsent(calendar.getRepeatParentId(), id -> new HashSet<>()).add(calendar.getOriginalDate());
+            }
+            if (!CalendarRepeatExpander.isRepeating(calendar.getRepeat())) {
+                tree.put(calendar);
+            } else if (!calendar.isExpired()) {
+                repeats.put(calendarId, calendar);
+            }
+        }
+
+        private synchronized List<CalendarResponseDto> all() {
+            List<CalendarResponseDto> result = tree.all();
+            result.addAll(repeats.values());
+            result.sort(Comparator.comparing(CalendarResponseDto::getCalendarId));
+            return result;
+        }
+
+        private synchronized List<CalendarResponseDto> between(LocalDate from, LocalDate to) {
+            List<CalendarResponseDto> result = tree.overlapping(from, to);
+            result.addAll(calendarRepeatExpander.expand(repeats.values(), overridden, from, to));
+            result.sort(BY_START_DATE);
+            return result;
+        }
+    }
+}
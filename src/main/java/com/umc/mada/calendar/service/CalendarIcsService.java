@@ -0,0 +1,370 @@
+package com.umc.mada.calendar.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.umc.mada.calendar.domain.Calendar;
+import com.umc.mada.calendar.repository.CalendarRepository;
+import com.umc.mada.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * 일정 .ics 가져오기/내보내기
+ * 가져오기는 파일을 VEVENT 단위로 읽으면서 CHUNK_SIZE개마다 트랜잭션 하나로 JDBC 배치 저장하고, 청크마다 진행 상황을 NDJSON 한 줄로 쓴다.
+ * 내보내기는 일정을 스트림으로 한 행씩 읽어 바로 쓴다. 어느 쪽이든 파일 크기와 관계없이 메모리 사용량이 일정하다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CalendarIcsService {
+    private static final int CHUNK_SIZE = 1000;
+    private static final int CLEAR_INTERVAL = 1000;
+    private static final char DEFAULT_DDAY = 'N';
+    private static final String UID_SUFFIX = "@mada";
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final CalendarRepository calendarRepository;
+    private final CalendarRepeatExpander calendarRepeatExpander;
+    private final CalendarCache calendarCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    /**
+     * .ics 가져오기
+     * 진행 상황: 청크마다 {"chunk", "imported", "deletedOccurrences", "skipped", "unsupportedRules"}, 마지막에 "done": true (실패 시 false와 "error")
+     * 실패한 청크만 롤백되고 이전 청크는 저장된 상태로 남는다.
+     */
+    public void importIcs(User user, InputStream inputStream, String color, OutputStream outputStream) throws IOException {
+        IcsEventReader reader = new IcsEventReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), ZoneId.systemDefault());
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.setRootValueSeparator(null);
+
+        Map<String, Long> repeatIds = new HashMap<>(); // UID별 저장한 반복 일정 ID (이후 청크의 회차 예외 행 연결용)
+        Map<Long, Set<LocalDate>> occurrences = new HashMap<>(); // 반복 일정 ID별 저장한 회차 예외 행의 원래 일자 (같은 회차는 처음 것만 저장)
+        List<IcsEventReader.IcsEvent> pending = new ArrayList<>(); // 반복 일정보다 먼저 나온 회차 (마지막 청크 이후 연결)
+        Progress progress = new Progress();
+        List<IcsEventReader.IcsEvent> chunk = new ArrayList<>(CHUNK_SIZE);
+        String error = "";
+        try {
+            IcsEventReader.IcsEvent event;
+            while ((event = reader.next()) != null) {
+                chunk.add(event);
+                if (chunk.size() == CHUNK_SIZE) {
+                    saveChunk(user, chunk, color, repeatIds, occurrences, pending, progress);
+                    writeProgress(generator, progress, reader.getSkipped(), null);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                saveChunk(user, chunk, color, repeatIds, occurrences, pending, progress);
+                writeProgress(generator, progress, reader.getSkipped(), null);
+            }
+            for (int from = 0; from < pending.size(); from += CHUNK_SIZE) {
+                savePending(user, pending.subList(from, Math.min(from + CHUNK_SIZE, pending.size())), repeatIds, occurrences, progress);
+                writeProgress(generator, progress, reader.getSkipped(), null);
+            }
+        } catch (RuntimeException e) {
+            // 저장 실패뿐 아니라 읽는 중 생긴 예상하지 못한 오류도 마지막 줄로 알린다.
+            error = "일정을 가져오지 못했습니다.";
+        } finally {
+            calendarCache.evict(user);
+        }
+        writeProgress(generator, progress, reader.getSkipped(), error);
+    }
+
+    // 청크 하나를 트랜잭션 하나로 저장 (반복 일정을 먼저 저장해서 ID를 받은 뒤 회차 예외 행을 저장한다)
+    private void saveChunk(User user, List<IcsEventReader.IcsEvent> chunk, String color, Map<String, Long> repeatIds,
+                           Map<Long, Set<LocalDate>> occurrences, List<IcsEventReader.IcsEvent> pending, Progress progress) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Calendar> calendars = new ArrayList<>();
+            List<IcsEventReader.IcsEvent> sources = new ArrayList<>();
+            List<IcsEventReader.IcsEvent> overrides = new ArrayList<>();
+            for (IcsEventReader.IcsEvent event : chunk) {
+                Calendar calendar = event.getCalendar();
+                calendar.setUser(user);
+                if (calendar.getColor() == null) {
+                    calendar.setColor(color);
+                }
+                if (calendar.getDday() == null) {
+                    calendar.setDday(DEFAULT_DDAY);
+                }
+                if (event.getRecurrenceId() != null) {
+                    overrides.add(event);
+                } else if (!calendar.isExpired()) { // 취소된 일정은 가져오지 않는다.
+                    calendar.setRepeatEndDate(calendarRepeatExpander.repeatEndDate(calendar));
+                    calendars.add(calendar);
+                    sources.add(event);
+                }
+                if (event.isRuleDropped()) {
+                    progress.unsupportedRules++;
+                }
+            }
+
+            List<Long> ids = calendarRepository.insertAll(user.getId(), calendars);
+            progress.imported += ids.size();
+            List<Calendar> exceptions = new ArrayList<>();
+            for (int i = 0; i < calendars.size(); i++) {
+                Calendar calendar = calendars.get(i);
+                IcsEventReader.IcsEvent source = sources.get(i);
+                if (!calendar.isRepeating()) {
+                    continue;
+                }
+                if (source.getUid() != null) {
+                    repeatIds.put(source.getUid(), ids.get(i));
+                }
+                for (LocalDate date : source.getExceptionDates()) {
+                    addOccurrence(exceptions, occurrences, deletedOccurrence(calendar, ids.get(i), date));
+                }
+            }
+            for (IcsEventReader.IcsEvent event : overrides) {
+                Long parentId = event.getUid() == null ? null : repeatIds.get(event.getUid());
+                if (parentId != null) {
+                    addOccurrence(exceptions, occurrences, override(event, parentId));
+                } else {
+                    pending.add(event); // 반복 일정이 뒤쪽 청크에 있을 수 있다.
+                }
+            }
+            insertExceptions(user, exceptions, progress);
+        });
+        progress.chunk++;
+    }
+
+    // 마지막 청크까지 반복 일정을 찾지 못했던 회차 저장 (끝까지 찾지 못한 회차는 단일 일정으로 저장하고, 취소된 회차는 버린다)
+    private void savePending(User user, List<IcsEventReader.IcsEvent> pending, Map<String, Long> repeatIds,
+                             Map<Long, Set<LocalDate>> occurrences, Progress progress) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Calendar> exceptions = new ArrayList<>();
+            for (IcsEventReader.IcsEvent event : pending) {
+                Long parentId = event.getUid() == null ? null : repeatIds.get(event.getUid());
+                if (parentId != null) {
+                    addOccurrence(exceptions, occurrences, override(event, parentId));
+                } else if (!event.getCalendar().isExpired()) {
+                    exceptions.add(event.getCalendar());
+                }
+            }
+            insertExceptions(user, exceptions, progress);
+        });
+        progress.chunk++;
+    }
+
+    // 회차 예외 행과 단일 일정 저장 (삭제한 회차는 imported가 아니라 deletedOccurrences로 센다)
+    // 같은 회차는 addOccurrence에서 이미 걸렀고 반복 일정은 모두 이번 가져오기에서 새로 저장했으므로, 넘긴 행은 모두 저장된다.
+    private void insertExceptions(User user, List<Calendar> exceptions, Progress progress) {
+        calendarRepository.insertAllIfAbsent(user.getId(), exceptions);
+        for (Calendar exception : exceptions) {
+            if (exception.isExpired()) {
+                progress.deletedOccurrences++;
+            } else {
+                progress.imported++;
+            }
+        }
+    }
+
+    // 같은 반복 일정의 같은 회차는 처음 나온 것만 저장한다. (EXDATE가 RECURRENCE-ID보다 먼저 들어간다)
+    private static void addOccurrence(List<Calendar> exceptions, Map<Long, Set<LocalDate>> occurrences, Calendar occurrence) {
+        if (occurrences.computeIfAbsent(occurrence.getRepeatParentId(), id -> new HashSet<>()).add(occurrence.getOriginalDate())) {
+            exceptions.add(occurrence);
+        }
+    }
+
+    // 수정하거나 취소한 회차 예외 행 (RECURRENCE-ID)
+    private static Calendar override(IcsEventReader.IcsEvent event, Long parentId) {
+        Calendar calendar = event.getCalendar();
+        calendar.setRepeatParentId(parentId);
+        calendar.setOriginalDate(event.getRecurrenceId());
+        return calendar;
+    }
+
+    // 삭제한 회차 예외 행 (EXDATE)
+    private static Calendar deletedOccurrence(Calendar calendar, Long parentId, LocalDate date) {
+        return Calendar.builder()
+                .user(calendar.getUser())
+                .calendarName(calendar.getCalendarName())
+                .color(calendar.getColor())
+                .dday(calendar.getDday())
+                .startDate(date)
+                .endDate(date.plusDays(ChronoUnit.DAYS.between(calendar.getStartDate(), calendar.getEndDate())))
+                .startTime(calendar.getStartTime())
+                .endTime(calendar.getEndTime())
+                .isExpired(true)
+                .repeatParentId(parentId)
+                .originalDate(date)
+                .build();
+    }
+
+    // error가 null이면 진행 중, ""이면 완료, 그 외에는 실패
+    private static void writeProgress(JsonGenerator generator, Progress progress, int skipped, String error) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("chunk", progress.chunk);
+        generator.writeNumberField("imported", progress.imported);
+        generator.writeNumberField("deletedOccurrences", progress.deletedOccurrences);
+        generator.writeNumberField("skipped", skipped);
+        generator.writeNumberField("unsupportedRules", progress.unsupportedRules);
+        if (error != null) {
+            generator.writeBooleanField("done", error.isEmpty());
+            if (!error.isEmpty()) {
+                generator.writeStringField("error", error);
+            }
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        generator.flush();
+    }
+
+    // 스트림을 여는 동안 트랜잭션(커넥션)이 유지되어야 하므로 응답 스트림에 쓰는 전체 과정을 트랜잭션으로 묶는다.
+    @Transactional(readOnly = true)
+    public void exportIcs(User user, OutputStream outputStream) throws IOException {
+        // 스트림을 열기 전에 삭제한 회차(EXDATE)를 먼저 읽는다.
+        Map<Long, List<LocalDate>> deleted = new HashMap<>();
+        for (Calendar occurrence : calendarRepository.findUserDeletedOccurrences(user)) {
+            deleted.computeIfAbsent(occurrence.getRepeatParentId(), id -> new ArrayList<>()).add(occurrence.getOriginalDate());
+        }
+
+        IcsWriter writer = new IcsWriter(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+        String stamp = LocalDateTime.now(ZoneOffset.UTC).format(DATE_TIME) + "Z";
+        writer.line("BEGIN:VCALENDAR");
+        writer.line("VERSION:2.0");
+        writer.line("PRODID:-//MADA//Calendar//KO");
+        writer.line("CALSCALE:GREGORIAN");
+        int written = 0;
+        try (Stream<Calendar> calendars = calendarRepository.streamUserCalendars(user)) {
+            for (Calendar calendar : (Iterable<Calendar>) calendars::iterator) {
+                if (calendar.getStartDate() != null && calendar.getEndDate() != null) {
+                    writeEvent(writer, calendar, stamp, deleted.getOrDefault(calendar.getId(), Collections.emptyList()));
+                }
+                if (++written % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        writer.line("END:VCALENDAR");
+        writer.flush();
+    }
+
+    private static void writeEvent(IcsWriter writer, Calendar calendar, String stamp, List<LocalDate> deleted) throws IOException {
+        boolean allDay = calendar.getStartTime() == null;
+        writer.line("BEGIN:VEVENT");
+        writer.line("UID:" + (calendar.getRepeatParentId() != null ? calendar.getRepeatParentId() : calendar.getId()) + UID_SUFFIX);
+        writer.line("DTSTAMP:" + stamp);
+        if (calendar.getRepeatParentId() != null && calendar.getOriginalDate() != null) {
+            writer.line("RECURRENCE-ID" + dateValue(calendar.getOriginalDate(), calendar.getStartTime()));
+        }
+        if (allDay) {
+            // 종일 일정의 DTEND는 마지막 날의 다음 날 (포함하지 않음)
+            writer.line("DTSTART" + dateValue(calendar.getStartDate(), null));
+            writer.line("DTEND" + dateValue(calendar.getEndDate().plusDays(1), null));
+        } else {
+            LocalTime endTime = calendar.getEndTime() != null ? calendar.getEndTime() : calendar.getStartTime();
+            writer.line("DTSTART" + dateValue(calendar.getStartDate(), calendar.getStartTime()));
+            writer.line("DTEND" + dateValue(calendar.getEndDate(), endTime));
+        }
+        writer.line("SUMMARY:" + escape(calendar.getCalendarName()));
+        if (calendar.getMemo() != null && !calendar.getMemo().isEmpty()) {
+            writer.line("DESCRIPTION:" + escape(calendar.getMemo()));
+        }
+        if (calendar.isRepeating()) {
+            writer.line("RRULE:" + rule(calendar, allDay));
+            for (LocalDate date : deleted) {
+                writer.line("EXDATE" + dateValue(date, calendar.getStartTime()));
+            }
+        }
+        if (calendar.getColor() != null) {
+            writer.line("X-MADA-COLOR:" + escape(calendar.getColor()));
+        }
+        if (calendar.getDday() != null) {
+            writer.line("X-MADA-DDAY:" + calendar.getDday());
+        }
+        writer.line("END:VEVENT");
+    }
+
+    // 종일 일정은 ;VALUE=DATE:yyyyMMdd, 시간이 있는 일정은 :yyyyMMddTHHmmss (서버 시간대 현지 시각)
+    private static String dateValue(LocalDate date, LocalTime time) {
+        return time == null ? ";VALUE=DATE:" + date.format(DATE) : ":" + date.atTime(time).format(DATE_TIME);
+    }
+
+    private static String rule(Calendar calendar, boolean allDay) {
+        StringBuilder rule = new StringBuilder("FREQ=");
+        switch (calendar.getRepeat()) {
+            case DAY: rule.append("DAILY"); break;
+            case WEEK: rule.append("WEEKLY"); break;
+            case MONTH: rule.append("MONTHLY"); break;
+            default: rule.append("YEARLY"); break;
+        }
+        if (calendar.getRepeatInterval() != null && calendar.getRepeatInterval() > 1) {
+            rule.append(";INTERVAL=").append(calendar.getRepeatInterval());
+        }
+        if (calendar.getRepeatCount() != null) {
+            rule.append(";COUNT=").append(calendar.getRepeatCount());
+        }
+        if (calendar.getRepeatUntil() != null) {
+            // UNTIL은 DTSTART와 같은 형식이어야 한다.
+            rule.append(";UNTIL=").append(allDay ? calendar.getRepeatUntil().format(DATE)
+                    : calendar.getRepeatUntil().atTime(LocalTime.MAX).format(DATE_TIME));
+        }
+        return rule.toString();
+    }
+
+    // TEXT 값 이스케이프 (\\, \;, \,, 줄바꿈)
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("\\", "\\\\").replace(";", "\\;").replace(",", "\\,")
+                .replace("\r\n", "\\n").replace("\n", "\\n").replace("\r", "\\n");
+    }
+
+    /**
+     * 가져오기 진행 상황 (저장한 청크 수, 저장한 일정 수, 저장한 삭제 회차 수, 첫 회차만 가져온 반복 일정 수)
+     */
+    private static class Progress {
+        private int chunk;
+        private int imported;
+        private int deletedOccurrences;
+        private int unsupportedRules;
+    }
+
+    /**
+     * 75바이트(UTF-8)마다 줄을 접어서 쓴다. (RFC 5545 3.1)
+     */
+    private static class IcsWriter {
+        private static final int MAX_OCTETS = 75;
+
+        private final Writer writer;
+
+        private IcsWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        private void line(String line) throws IOException {
+            int octets = 0;
+            for (int i = 0; i < line.length(); ) {
+                int codePoint = line.codePointAt(i);
+                int size = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+                if (octets + size > MAX_OCTETS) {
+                    writer.write("\r\n ");
+                    octets = 1;
+                }
+                writer.write(line, i, Character.charCount(codePoint));
+                octets += size;
+                i += Character.charCount(codePoint);
+            }
+            writer.write("\r\n");
+        }
+
+        private void flush() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.umc.mada.calendar.service;
+
+import com.umc.mada.calendar.dto.CalendarResponseDto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유저 한 명의 만료되지 않은 캘린더 구간 트리 (CalendarCache 전용)
+ * (시작일, id) 순서의 AVL 트리에 하위 트리의 가장 늦은 종료일을 함께 저장해서
+ * 기간과 겹치는 일정을 O(log n + k)로 찾는다. 결과는 DB 조회와 같이 시작일, id 순서이다.
+ * 시작일이나 종료일이 없는 일정은 기간 조회에서 제외하고 전체 조회에만 포함한다.
+ */
+class CalendarIntervalTree {
+    private Node root;
+    private final Map<Long, CalendarResponseDto> calendars = new HashMap<>();
+
+    CalendarIntervalTree(List<CalendarResponseDto> calendars) {
+        for (CalendarResponseDto calendar : calendars) {
+            put(calendar);
+        }
+    }
+
+    // 추가 또는 수정 (만료된 일정이면 제거)
+    synchronized void put(CalendarResponseDto calendar) {
+        remove(calendar.getCalendarId());
+        if (calendar.isExpired()) {
+            return;
+        }
+        calendars.put(calendar.getCalendarId(), calendar);
+        if (isDated(calendar)) {
+            root = insert(root, new Node(calendar));
+        }
+    }
+
+    synchronized void remove(Long calendarId) {
+        CalendarResponseDto previous = calendars.remove(calendarId);
+        if (previous != null && isDated(previous)) {
+            root = delete(root, previous.getStartDate(), previous.getCalendarId());
+        }
+    }
+
+    // 기간 [from, to]과 겹치는 일정 (시작일, id 순)
+    synchronized List<CalendarResponseDto> overlapping(LocalDate from, LocalDate to) {
+        List<CalendarResponseDto> result = new ArrayList<>();
+        collect(root, from, to, result);
+        return result;
+    }
+
+    // 전체 일정 (id 순)
+    synchronized List<CalendarResponseDto> all() {
+        List<CalendarResponseDto> result = new ArrayList<>(calendars.values());
+        result.sort(Comparator.comparing(CalendarResponseDto::getCalendarId));
+        return result;
+    }
+
+    private static boolean isDated(CalendarResponseDto calendar) {
+        return calendar.getStartDate() != null && calendar.getEndDate() != null;
+    }
+
+    private static void collect(Node node, LocalDate from, LocalDate to, List<CalendarResponseDto> result) {
+        // 하위 트리의 모든 일정이 from 이전에 끝나면 볼 필요가 없다.
+        if (node == null || node.maxEnd.isBefore(from)) {
+            return;
+        }
+        collect(node.left, from, to, result);
+        if (node.start.isAfter(to)) {
+            return; // 오른쪽 하위 트리는 모두 to 이후에 시작한다.
+        }
+        if (!node.calendar.getEndDate().isBefore(from)) {
+            result.add(node.calendar);
+        }
+        collect(node.right, from, to, result);
+    }
+
+    private static int compare(LocalDate start, Long id, Node node) {
+        int result = start.compareTo(node.start);
+        return result != 0 ? result : id.compareTo(node.calendar.getCalendarId());
+    }
+
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (compare(added.start, added.calendar.getCalendarId(), node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return balance(node);
+    }
+
+    private static Node delete(Node node, LocalDate start, Long id) {
+        if (node == null) {
+            return null;
+        }
+        int result = compare(start, id, node);
+        if (result < 0) {
+            node.left = delete(node.left, start, id);
+        } else if (result > 0) {
+            node.right = delete(node.right, start, id);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            // 오른쪽 하위 트리의 가장 작은 노드로 대체
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMin(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return balance(node);
+    }
+
+    private static Node deleteMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return balance(node);
+    }
+
+    private static Node balance(Node node) {
+        update(node);
+        int factor = height(node.left) - height(node.right);
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        update(node);
+        update(left);
+        return left;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        update(node);
+        update(right);
+        return right;
+    }
+
+    private static void update(Node node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        LocalDate maxEnd = node.calendar.getEndDate();
+        if (node.left != null && node.left.maxEnd.isAfter(maxEnd)) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd.isAfter(maxEnd)) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static class Node {
+        private final LocalDate start;
+        private final CalendarResponseDto calendar;
+        private LocalDate maxEnd;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        private Node(CalendarResponseDto calendar) {
+            this.start = calendar.getStartDate();
+            this.calendar = calendar;
+            this.maxEnd = calendar.getEndDate();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.umc.mada.calendar.service;
+
+import com.umc.mada.calendar.domain.Calendar;
+import com.umc.mada.calendar.domain.CalendarRepeat;
+import com.umc.mada.calendar.dto.CalendarResponseDto;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * 반복 일정 전개 로직
+ * 반복 일정은 회차별 행을 만들지 않고, 조회하는 기간에 대해서만 repeat/repeatInterval/repeatUntil/repeatCount로 펼친다.
+ * 회차 시작일은 첫 회차 시작일에 (회차 번호 x 간격)만큼 더한 날짜이고, 일정 기간(시작일~종료일)은 첫 회차와 같다.
+ * 한 회차만 수정/삭제하면 CALENDAR에 그 회차의 예외 행(repeat_parent_id, original_date)이 저장되고, 전개 시 그 회차는 제외된다.
+ */
+@Component
+public class CalendarRepeatExpander {
+    // 반복 간격/횟수 상한 (요청과 ICS 가져오기 모두 이 범위를 벗어나면 받지 않는다)
+    public static final int MAX_INTERVAL = 99;
+    public static final int MAX_COUNT = 999;
+
+    public static boolean isRepeating(CalendarRepeat repeat) {
+        return repeat != null && repeat != CalendarRepeat.N;
+    }
+
+    // 기간 [from, to]과 겹치는 회차의 시작 일자 목록
+    public List<LocalDate> expand(CalendarResponseDto calendar, LocalDate from, LocalDate to) {
+        if (!isRepeating(calendar.getRepeat()) || calendar.getStartDate() == null || calendar.getEndDate() == null) {
+            return Collections.emptyList();
+        }
+        CalendarRepeat repeat = calendar.getRepeat();
+        LocalDate start = calendar.getStartDate();
+        int interval = interval(calendar.getRepeatInterval());
+        long duration = ChronoUnit.DAYS.between(start, calendar.getEndDate());
+
+        // from에 걸치는 회차 바로 앞부터 확인한다. (월/연 반복은 말일 보정이 있어 한 회차 더 앞에서 시작)
+        long first = Math.max(0, unit(repeat).between(start, from.minusDays(duration)) / interval - 1);
+        List<LocalDate> dates = new ArrayList<>();
+        for (long index = first; calendar.getRepeatCount() == null || index < calendar.getRepeatCount(); index++) {
+            LocalDate date = occurrence(repeat, start, index * interval);
+            if (date.isAfter(to) || (calendar.getRepeatUntil() != null && date.isAfter(calendar.getRepeatUntil()))) {
+                break;
+            }
+            if (!date.plusDays(duration).isBefore(from)) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+
+    // date 이후에 끝나는 첫 회차의 시작 일자 (skipped 회차 제외, 남은 회차가 없으면 null)
+    public LocalDate nextOccurrence(CalendarResponseDto calendar, LocalDate date, Set<LocalDate> skipped) {
+        if (!isRepeating(calendar.getRepeat()) || calendar.getStartDate() == null || calendar.getEndDate() == null) {
+            return null;
+        }
+        CalendarRepeat repeat = calendar.getRepeat();
+        LocalDate start = calendar.getStartDate();
+        int interval = interval(calendar.getRepeatInterval());
+        long duration = ChronoUnit.DAYS.between(start, calendar.getEndDate());
+
+        long first = Math.max(0, unit(repeat).between(start, date.minusDays(duration)) / interval - 1);
+        for (long index = first; calendar.getRepeatCount() == null || index < calendar.getRepeatCount(); index++) {
+            LocalDate occurrence = occurrence(repeat, start, index * interval);
+            if (calendar.getRepeatUntil() != null && occurrence.isAfter(calendar.getRepeatUntil())) {
+                return null;
+            }
+            if (!occurrence.plusDays(duration).isBefore(date) && !skipped.contains(occurrence)) {
+                return occurrence;
+            }
+        }
+        return null;
+    }
+
+    // 해당 날짜에 시작하는 회차가 있는지 여부
+    public boolean occursOn(CalendarResponseDto calendar, LocalDate date) {
+        return expand(calendar, date, date).contains(date);
+    }
+
+    /**
+     * 반복 일정 목록을 기간 [from, to]로 펼친다.
+     * overridden(반복 일정 ID별 예외 행이 있는 회차 시작 일자)에 있는 회차는 예외 행으로 대신하므로 제외한다.
+     */
+    public List<CalendarResponseDto> expand(Collection<CalendarResponseDto> calendars, Map<Long, Set<LocalDate>> overridden,
+                                            LocalDate from, LocalDate to) {
+        List<CalendarResponseDto> occurrences = new ArrayList<>();
+        for (CalendarResponseDto calendar : calendars) {
+            Set<LocalDate> skipped = overridden.getOrDefault(calendar.getCalendarId(), Collections.emptySet());
+            for (LocalDate date : expand(calendar, from, to)) {
+                if (!skipped.contains(date)) {
+                    occurrences.add(calendar.occurrence(date));
+                }
+            }
+        }
+        return occurrences;
+    }
+
+    // 마지막 회차 종료 일자 (종료 일자, 반복 횟수가 모두 없으면 null)
+    public LocalDate repeatEndDate(Calendar calendar) {
+        if (!calendar.isRepeating() || (calendar.getRepeatUntil() == null && calendar.getRepeatCount() == null)) {
+            return null;
+        }
+        CalendarRepeat repeat = calendar.getRepeat();
+        LocalDate start = calendar.getStartDate();
+        int interval = interval(calendar.getRepeatInterval());
+
+        long last = calendar.getRepeatCount() == null ? Long.MAX_VALUE : calendar.getRepeatCount() - 1;
+        LocalDate until = calendar.getRepeatUntil();
+        if (until != null) {
+            long index = Math.max(0, unit(repeat).between(start, until) / interval);
+            while (!occurrence(repeat, start, (index + 1) * interval).isAfter(until)) {
+                index++;
+            }
+            while (index > 0 && occurrence(repeat, start, index * interval).isAfter(until)) {
+                index--;
+            }
+            last = Math.min(last, index);
+        }
+        return occurrence(repeat, start, last * interval).plusDays(ChronoUnit.DAYS.between(start, calendar.getEndDate()));
+    }
+
+    private static int interval(Integer repeatInterval) {
+        return repeatInterval == null || repeatInterval < 1 ? 1 : repeatInterval;
+    }
+
+    private static ChronoUnit unit(CalendarRepeat repeat) {
+        switch (repeat) {
+            case DAY:
+                return ChronoUnit.DAYS;
+            case WEEK:
+                return ChronoUnit.WEEKS;
+            case MONTH:
+                return ChronoUnit.MONTHS;
+            default:
+                return ChronoUnit.YEARS;
+        }
+    }
+
+    // 첫 회차로부터 amount 단위 뒤의 회차 시작일 (해당 일이 없는 달은 말일, 2월 29일은 평년에 2월 28일)
+    private static LocalDate occurrence(CalendarRepeat repeat, LocalDate start, long amount) {
+        return start.plus(amount, unit(repeat));
+    }
+}
@@ -1,114 +1,72 @@
 package com.umc.mada.calendar.service;
 
 import com.umc.mada.calendar.domain.Calendar;
+import com.umc.mada.calendar.dto.CalendarListResponseDto;
 import com.umc.mada.calendar.dto.CalendarRequestDto;
 import com.umc.mada.calendar.dto.CalendarResponseDto;
 import com.umc.mada.calendar.repository.CalendarRepository;
+import com.umc.mada.global.DataResponse;
 import com.umc.mada.user.domain.User;
-import com.umc.mada.user.repository.UserRepository;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class CalendarService {
     private final CalendarRepository calendarRepository;
-    private final UserRepository userRepository;
+    private final CalendarCache calendarCache;
+    private final CalendarRepeatExpander calendarRepeatExpander;
 
 
     @Autowired
-    public CalendarService(CalendarRepository calendarRepository ,UserRepository userRepository){
+    public CalendarService(CalendarRepository calendarRepository, CalendarCache calendarCache, CalendarRepeatExpander calendarRepeatExpander){
         this.calendarRepository = calendarRepository;
-        this.userRepository = userRepository;
+        this.calendarCache = calendarCache;
+        this.calendarRepeatExpander = calendarRepeatExpander;
     }
 
 
-    public Map<String, Object> readDday(Authentication authentication){
-        User user = this.getUser(authentication);
-        List<Calendar> calendarList = calendarRepository.findAllByUserAndDday(user,'Y').stream().filter(calendar -> !calendar.isExpired()).collect(Collectors.toList());;
-        List<CalendarResponseDto> calendarResponseDtoList = new ArrayList<>();
-
-        for (Calendar calendar: calendarList) {
-            calendarResponseDtoList.add(this.calendarToDto(calendar));
-        }
-        Map<String,Object> map = new LinkedHashMap<>();
-        Map<String ,Object> data = new LinkedHashMap<>();
-        data.put("startTodoAtMonday",user.isStartTodoAtMonday());
-        data.put("calendars",calendarResponseDtoList);
-        map.put("data",data);
-        return map;
+    public DataResponse<CalendarListResponseDto> readDday(User user){
+        // 오늘 기준 남은 일수를 담은 D-day 일정 (유저별로 하루 한 번 계산)
+        List<CalendarResponseDto> calendarResponseDtoList = calendarCache.findDdays(user, LocalDate.now());
+        return DataResponse.of(new CalendarListResponseDto(user.isStartTodoAtMonday(), calendarResponseDtoList));
     }
 
-    public Map<String, Object> readMonthCalendar(Authentication authentication, int year,int month){
-        User user = this.getUser(authentication);
-
-        List<Calendar> calendarList = calendarRepository.findCalendarMonth(user,year,month);
-        List<CalendarResponseDto> calendarResponseDtoList = new ArrayList<>();
+    public DataResponse<CalendarListResponseDto> readMonthCalendar(User user, int year,int month){
+        // 해당 월과 겹치는 일정 (연도를 넘어가는 일정 포함)
+        YearMonth yearMonth = YearMonth.of(year, month);
+        List<CalendarResponseDto> calendarResponseDtoList = calendarCache.findBetween(user, yearMonth.atDay(1), yearMonth.atEndOfMonth());
 
-        for (Calendar calendar: calendarList) {
-            calendarResponseDtoList.add(this.calendarToDto(calendar));
-        }
-
-        Map<String,Object> map = new LinkedHashMap<>();
-        Map<String ,Object> data = new LinkedHashMap<>();
-        data.put("startTodoAtMonday",user.isStartTodoAtMonday());
-        data.put("calendars",calendarResponseDtoList);
-        map.put("data",data);
-        return map;
+        return DataResponse.of(new CalendarListResponseDto(user.isStartTodoAtMonday(), calendarResponseDtoList));
     }
-    public Map<String,Object> readDayCalendars(Authentication authentication, LocalDate localDate){
-        User user = this.getUser(authentication);
-        List<Calendar> calendarList = readCalendarsByDate(calendarRepository.findAllByUser(user).stream().filter(calendar -> !calendar.isExpired()).collect(Collectors.toList()),localDate);
+    public DataResponse<CalendarListResponseDto> readDayCalendars(User user, LocalDate localDate){
+        List<CalendarResponseDto> calendarResponseDtoList = calendarCache.findBetween(user, localDate, localDate);
 
-
-        List<CalendarResponseDto> calendarResponseDtoList = new ArrayList<>();
-
-        for (Calendar calendar: calendarList) {
-            calendarResponseDtoList.add(this.calendarToDto(calendar));
-        }
-
-        Map<String,Object> map = new LinkedHashMap<>();
-        Map<String ,Object> data = new LinkedHashMap<>();
-        data.put("startTodoAtMonday",user.isStartTodoAtMonday());
-        data.put("calendars",calendarResponseDtoList);
-
-        map.put("data",data);
-        return map;
+        return DataResponse.of(new CalendarListResponseDto(user.isStartTodoAtMonday(), calendarResponseDtoList));
     }
 
 
-    public Map<String, Object> readCalendars(Authentication authentication) {
-        User user = this.getUser(authentication);
-        List<Calendar> calendarList = calendarRepository.findAllByUser(user).stream().filter(calendar -> !calendar.isExpired()).collect(Collectors.toList());;
-        List<CalendarResponseDto> calendarResponseDtoList = new ArrayList<>();
-
-        Map<String,Object> map = new LinkedHashMap<>();
-        for (Calendar calendar: calendarList) {
-            calendarResponseDtoList.add(this.calendarToDto(calendar));
-
-        }
-        Map<String ,Object> data = new LinkedHashMap<>();
-        data.put("startTodoAtMonday",user.isStartTodoAtMonday());
-        data.put("calendars",calendarResponseDtoList);
-
-        map.put("data",data);
-        return map;
+    public DataResponse<CalendarListResponseDto> readCalendars(User user) {
+        List<CalendarResponseDto> calendarResponseDtoList = calendarCache.findAll(user);
+        return DataResponse.of(new CalendarListResponseDto(user.isStartTodoAtMonday(), calendarResponseDtoList));
     }
     //동일 이름의 일정이 동일한 날짜에 있는지 검증
     //캘린더 생성코드
-    public Map<String,Object> createCalendar(Authentication authentication, CalendarRequestDto calendarRequestDto) {
-        User user = this.getUser(authentication);
+    public Map<String,Object> createCalendar(User user, CalendarRequestDto calendarRequestDto) {
         Calendar calendar = this.calendarBuilder(user,calendarRequestDto);
+        this.applyRepeat(calendar, calendarRequestDto);
         Map<String,Object> map = new LinkedHashMap<>();
         Map<String,Object> data = new LinkedHashMap<>();
 
         calendarRepository.save(calendar);
+        calendarCache.saved(user, calendar);
 
         CalendarResponseDto calendarResponseDto = this.calendarToDto(calendar);
 
@@ -117,13 +75,28 @@ public class CalendarService {
         return map;
     }
 
-    public Map<String,Object> editCalendar(Authentication authentication, Long id, CalendarRequestDto calendarRequestDto){
-        User user = this.getUser(authentication);
+    public Map<String,Object> editCalendar(User user, Long id, CalendarRequestDto calendarRequestDto){
         Map<String,Object> data = new LinkedHashMap<>();
         Calendar updateCalendar;
         Calendar calendar = calendarRepository.findCalendarByUserAndId(user, id).get();
 
+        if (calendarRequestDto.getOriginalDate() != null && calendar.isRepeating()) {
+            // 반복 일정의 한 회차만 수정 (회차 예외 행을 만들거나 수정한다)
+            updateCalendar = this.updateCalendar(this.findOrCreateOverride(user, calendar, calendarRequestDto.getOriginalDate()), calendarRequestDto);
+            calendarCache.saved(user, updateCalendar);
+        } else {
+            boolean wasRepeating = calendar.isRepeating();
+            List<Object> previousRule = this.repeatRule(calendar);
             updateCalendar = this.updateCalendar(calendar,calendarRequestDto);
+            this.applyRepeat(updateCalendar, calendarRequestDto);
+            if (wasRepeating && !previousRule.equals(this.repeatRule(updateCalendar))) {
+                // 반복 설정이 바뀌면 기존 회차 예외 행은 더 이상 맞지 않으므로 만료 처리하고 연결을 끊는다.
+                calendarRepository.detachRepeatOverrides(updateCalendar.getId(), LocalDateTime.now());
+                calendarCache.evict(user);
+            } else {
+                calendarCache.saved(user, updateCalendar);
+            }
+        }
 
 
             data.put("calendars", this.calendarToDto(updateCalendar));
@@ -134,16 +107,26 @@ public class CalendarService {
     }
 
 
-    public Map<String,Object> deleteCalendar(Authentication authentication, Long id){
-        User user = this.getUser(authentication);
+    public Map<String,Object> deleteCalendar(User user, Long id, LocalDate date){
         Calendar calendar = calendarRepository.findCalendarByUserAndId(user,id).get();
         Map<String,Object> data = new LinkedHashMap<>();
+        if (date != null && calendar.isRepeating()) {
+            // 반복 일정의 한 회차만 삭제 (삭제한 회차 예외 행을 남긴다)
+            calendar = this.findOrCreateOverride(user, calendar, date);
+        }
         calendar.setExpired(true);
 
         //모두 제거
 
 
         calendarRepository.save(calendar);
+        if (calendar.isRepeating()) {
+            // 반복 일정 전체 삭제 시 회차 예외 행도 함께 만료
+            calendarRepository.expireRepeatOverrides(calendar.getId(), LocalDateTime.now());
+            calendarCache.evict(user);
+        } else {
+            calendarCache.saved(user, calendar);
+        }
         data.put("calendars",this.calendarToDto(calendar));
 
         return data;
@@ -151,40 +134,73 @@ public class CalendarService {
     }
 
 
-    public List<Calendar> readCalendarsByDate(List<Calendar> calendarList, LocalDate date){
-        List<Calendar> calendars = calendarList.stream()
-                .filter(calendar -> calendar.getStartDate().isBefore(date)&&calendar.getEndDate().isAfter(date))
-                .collect(Collectors.toList());
-        return calendars;
-    }
 
 
 
 
 
-    private User getUser(Authentication authentication) throws NoSuchElementException {
-        try{
-            Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-            return userOptional.get();
-        }catch (RuntimeException e){
-            throw new NoSuchElementException();
+
+    private CalendarResponseDto calendarToDto(Calendar calendar){
+        return CalendarResponseDto.of(calendar);
+    }
+
+    // 반복 설정 검증 후 반영 (마지막 회차 종료 일자도 함께 계산한다)
+    private void applyRepeat(Calendar calendar, CalendarRequestDto calendarRequestDto){
+        // 회차 예외 행은 반복 설정을 갖지 않는다. (회차 응답에 담긴 반복 설정을 그대로 보내도 무시)
+        if (!CalendarRepeatExpander.isRepeating(calendarRequestDto.getRepeat()) || calendar.getRepeatParentId() != null) {
+            calendar.setRepeat(null);
+            calendar.setRepeatInterval(null);
+            calendar.setRepeatUntil(null);
+            calendar.setRepeatCount(null);
+            calendar.setRepeatEndDate(null);
+            return;
+        }
+        if (calendar.getStartDate() == null || calendar.getEndDate() == null || calendar.getEndDate().isBefore(calendar.getStartDate())) {
+            throw new IllegalArgumentException("반복 일정의 시작일과 종료일이 올바르지 않습니다.");
+        }
+        if (calendarRequestDto.getRepeatInterval() != null
+                && (calendarRequestDto.getRepeatInterval() < 1 || calendarRequestDto.getRepeatInterval() > CalendarRepeatExpander.MAX_INTERVAL)) {
+            throw new IllegalArgumentException("반복 간격은 1 이상 " + CalendarRepeatExpander.MAX_INTERVAL + " 이하여야 합니다.");
+        }
+        if (calendarRequestDto.getRepeatCount() != null
+                && (calendarRequestDto.getRepeatCount() < 1 || calendarRequestDto.getRepeatCount() > CalendarRepeatExpander.MAX_COUNT)) {
+            throw new IllegalArgumentException("반복 횟수는 1 이상 " + CalendarRepeatExpander.MAX_COUNT + " 이하여야 합니다.");
         }
+        if (calendarRequestDto.getRepeatUntil() != null && calendarRequestDto.getRepeatUntil().isBefore(calendar.getStartDate())) {
+            throw new IllegalArgumentException("반복 종료일은 시작일 이후여야 합니다.");
+        }
+        calendar.setRepeat(calendarRequestDto.getRepeat());
+        calendar.setRepeatInterval(calendarRequestDto.getRepeatInterval() == null ? 1 : calendarRequestDto.getRepeatInterval());
+        calendar.setRepeatUntil(calendarRequestDto.getRepeatUntil());
+        calendar.setRepeatCount(calendarRequestDto.getRepeatCount());
+        calendar.setRepeatEndDate(calendarRepeatExpander.repeatEndDate(calendar));
     }
 
+    // 회차 시작일에 영향을 주는 반복 설정 (변경 여부 비교용)
+    private List<Object> repeatRule(Calendar calendar){
+        return Arrays.asList(calendar.getRepeat(), calendar.getRepeatInterval(), calendar.getRepeatUntil(), calendar.getRepeatCount(),
+                calendar.getStartDate(), calendar.getEndDate());
+    }
 
-    private CalendarResponseDto calendarToDto(Calendar calendar){
-        return CalendarResponseDto.builder()
-                .calendarId(calendar.getId())
-                .calendarName(calendar.getCalendarName())
-                .startDate(calendar.getStartDate())
-                .endDate(calendar.getEndDate())
-                .startTime(calendar.getStartTime())
-                .endTime(calendar.getEndTime())
-                .color(calendar.getColor())
-                .dday(calendar.getDday())
-                .memo(calendar.getMemo())
-                .isExpired(calendar.isExpired())
-                .build();
+    // 반복 일정의 originalDate 회차 예외 행 (없으면 반복 일정 내용으로 새로 만든다)
+    private Calendar findOrCreateOverride(User user, Calendar calendar, LocalDate originalDate){
+        if (!calendarRepeatExpander.occursOn(CalendarResponseDto.of(calendar), originalDate)) {
+            throw new IllegalArgumentException("반복 일정에 해당 날짜의 회차가 없습니다.");
+        }
+        return calendarRepository.findCalendarByUserAndRepeatParentIdAndOriginalDate(user, calendar.getId(), originalDate)
+                .orElseGet(() -> Calendar.builder()
+                        .user(user)
+                        .calendarName(calendar.getCalendarName())
+                        .dday(calendar.getDday())
+                        .memo(calendar.getMemo())
+                        .startDate(originalDate)
+                        .endDate(originalDate.plusDays(ChronoUnit.DAYS.between(calendar.getStartDate(), calendar.getEndDate())))
+                        .startTime(calendar.getStartTime())
+                        .endTime(calendar.getEndTime())
+                        .color(calendar.getColor())
+                        .repeatParentId(calendar.getId())
+                        .originalDate(originalDate)
+                        .build());
     }
     private Calendar calendarBuilder(User user,CalendarRequestDto calendarRequestDto){
         if (calendarRequestDto.getIsExpired() == null){
@@ -1,24 +1,25 @@
 package com.umc.mada.calendar.service;
 
 import com.umc.mada.calendar.repository.CalendarRepository;
-import com.umc.mada.user.repository.UserRepository;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class CalendarServiceBuilder {
     private CalendarRepository calendarRepository;
+    private CalendarCache calendarCache;
+    private CalendarRepeatExpander calendarRepeatExpander;
 
-    private UserRepository userRepository;
     @Bean
-    public CalendarServiceBuilder setCalendarRepository(CalendarRepository calendarRepository ,UserRepository userRepository) {
-        this.userRepository = userRepository;
-
+    public CalendarServiceBuilder setCalendarRepository(CalendarRepository calendarRepository, CalendarCache calendarCache,
+                                                        CalendarRepeatExpander calendarRepeatExpander) {
         this.calendarRepository = calendarRepository;
+        this.calendarCache = calendarCache;
+        this.calendarRepeatExpander = calendarRepeatExpander;
         return this;
     }
     @Bean
     public CalendarService createCalendarService() {
-        return new CalendarService(calendarRepository,userRepository);
+        return new CalendarService(calendarRepository, calendarCache, calendarRepeatExpander);
     }
 }
\ No newline at end of file
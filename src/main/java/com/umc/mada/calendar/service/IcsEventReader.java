@@ -0,0 +1,381 @@
+package com.umc.mada.calendar.service;
+
+import com.umc.mada.calendar.domain.Calendar;
+import com.umc.mada.calendar.domain.CalendarRepeat;
+import lombok.Getter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * iCalendar(.ics) VEVENT 스트리밍 파서
+ * 한 줄씩 읽어 VEVENT 하나가 끝날 때마다 일정 하나를 돌려주므로 파일 크기와 관계없이 메모리 사용량이 일정하다.
+ * 반복 규칙은 FREQ(DAILY/WEEKLY/MONTHLY/YEARLY), INTERVAL, UNTIL, COUNT만 지원하고,
+ * 첫 회차와 다른 날짜를 만드는 BYDAY 등이 있으면 첫 회차만 단일 일정으로 가져온다.
+ * 29~31일에 시작하는 월 반복과 2월 29일에 시작하는 연 반복도 첫 회차만 가져온다.
+ * (RFC 5545는 해당 일이 없는 달을 건너뛰지만 CalendarRepeatExpander는 말일로 보정하므로 회차가 달라진다)
+ * VALARM 등 VEVENT 안의 하위 컴포넌트와 지원하지 않는 속성은 무시한다.
+ */
+public class IcsEventReader {
+    private static final int MAX_LINE_LENGTH = 64 * 1024;
+    private static final int MAX_PROPERTIES = 1000;
+    private static final String DEFAULT_NAME = "제목 없음";
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final Map<String, DayOfWeek> DAYS = Map.of("MO", DayOfWeek.MONDAY, "TU", DayOfWeek.TUESDAY, "WE", DayOfWeek.WEDNESDAY,
+            "TH", DayOfWeek.THURSDAY, "FR", DayOfWeek.FRIDAY, "SA", DayOfWeek.SATURDAY, "SU", DayOfWeek.SUNDAY);
+
+    private final BufferedReader reader;
+    private final ZoneId zone;
+    private String pending; // 다음 논리 줄의 첫 물리 줄 (접힌 줄을 이어 붙이기 위해 한 줄 미리 읽는다)
+    private boolean firstLine = true;
+    @Getter
+    private int skipped; // 형식이 잘못되어 건너뛴 VEVENT 수
+
+    public IcsEventReader(Reader reader, ZoneId zone) {
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        this.zone = zone;
+    }
+
+    // 다음 일정 (파일 끝이면 null)
+    public IcsEvent next() throws IOException {
+        List<Property> properties = null;
+        int nested = 0;
+        String line;
+        while ((line = readLine()) != null) {
+            if (line.equalsIgnoreCase("BEGIN:VEVENT")) {
+                properties = new ArrayList<>();
+                nested = 0;
+            } else if (properties == null) {
+                continue; // VEVENT 밖 (VCALENDAR, VTIMEZONE 등)
+            } else if (line.regionMatches(true, 0, "BEGIN:", 0, 6)) {
+                nested++;
+            } else if (line.regionMatches(true, 0, "END:", 0, 4)) {
+                if (nested > 0) {
+                    nested--;
+                    continue;
+                }
+                try {
+                    return toEvent(properties);
+                } catch (RuntimeException e) {
+                    skipped++;
+                    properties = null;
+                }
+            } else if (nested == 0) {
+                if (properties.size() >= MAX_PROPERTIES) {
+                    skipped++;
+                    properties = null;
+                    continue;
+                }
+                Property property = Property.parse(line);
+                if (property != null) {
+                    properties.add(property);
+                }
+            }
+        }
+        return null;
+    }
+
+    // 접힌 줄(공백이나 탭으로 시작하는 다음 줄)을 이어 붙인 논리 줄 하나
+    private String readLine() throws IOException {
+        String line = pending != null ? pending : reader.readLine();
+        pending = null;
+        if (line == null) {
+            return null;
+        }
+        if (firstLine) {
+            firstLine = false;
+            if (line.startsWith("\uFEFF")) {
+                line = line.substring(1);
+            }
+        }
+        StringBuilder builder = null;
+        String next;
+        while ((next = reader.readLine()) != null && !next.isEmpty() && (next.charAt(0) == ' ' || next.charAt(0) == '\t')) {
+            if (builder == null) {
+                builder = new StringBuilder(line);
+            }
+            if (builder.length() < MAX_LINE_LENGTH) {
+                builder.append(next, 1, next.length());
+            }
+        }
+        pending = next;
+        return builder == null ? line : builder.toString();
+    }
+
+    private IcsEvent toEvent(List<Property> properties) {
+        Property dtStart = null;
+        Property dtEnd = null;
+        Property duration = null;
+        Property rrule = null;
+        Property recurrenceId = null;
+        String uid = null;
+        String summary = null;
+        String description = null;
+        String color = null;
+        Character dday = null;
+        boolean cancelled = false;
+        List<LocalDate> exceptionDates = new ArrayList<>();
+
+        for (Property property : properties) {
+            switch (property.name) {
+                case "DTSTART": dtStart = property; break;
+                case "DTEND": dtEnd = property; break;
+                case "DURATION": duration = property; break;
+                case "RRULE": rrule = property; break;
+                case "RECURRENCE-ID": recurrenceId = property; break;
+                case "UID": uid = property.value; break;
+                case "SUMMARY": summary = unescape(property.value); break;
+                case "DESCRIPTION": description = unescape(property.value); break;
+                case "STATUS": cancelled = property.value.equalsIgnoreCase("CANCELLED"); break;
+                case "X-MADA-COLOR": color = property.value; break;
+                case "X-MADA-DDAY": dday = property.value.isEmpty() ? null : property.value.charAt(0); break;
+                case "EXDATE":
+                    for (String value : property.value.split(",")) {
+                        exceptionDates.add(parseDateTime(property, value).toLocalDate());
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (dtStart == null) {
+            throw new IllegalArgumentException("DTSTART가 없는 일정입니다.");
+        }
+
+        LocalDateTime start = parseDateTime(dtStart, dtStart.value);
+        boolean allDay = isDate(dtStart, dtStart.value);
+        LocalDateTime end = start;
+        if (dtEnd != null) {
+            end = parseDateTime(dtEnd, dtEnd.value);
+            if (allDay) {
+                end = end.minusDays(1); // 종일 일정의 DTEND는 다음 날 (포함하지 않음)
+            }
+        } else if (duration != null) {
+            end = start.plus(parseDuration(duration.value));
+            if (allDay && end.isAfter(start)) {
+                end = end.minusDays(1);
+            }
+        }
+        if (end.isBefore(start)) {
+            end = start;
+        }
+
+        Calendar calendar = Calendar.builder()
+                .calendarName(summary == null || summary.isEmpty() ? DEFAULT_NAME : summary)
+                .memo(description)
+                .color(color)
+                .dday(dday)
+                .startDate(start.toLocalDate())
+                .endDate(end.toLocalDate())
+                .startTime(allDay ? null : start.toLocalTime())
+                .endTime(allDay ? null : end.toLocalTime())
+                .isExpired(cancelled)
+                .build();
+
+        boolean ruleDropped = false;
+        if (rrule != null && recurrenceId == null) {
+            ruleDropped = !applyRule(calendar, rrule);
+        }
+        return new IcsEvent(calendar, uid,
+                recurrenceId == null ? null : parseDateTime(recurrenceId, recurrenceId.value).toLocalDate(),
+                exceptionDates, ruleDropped);
+    }
+
+    // 반복 규칙 반영 (지원하지 않는 규칙이면 false)
+    private boolean applyRule(Calendar calendar, Property rrule) {
+        Map<String, String> parts = new HashMap<>();
+        for (String part : rrule.value.split(";")) {
+            int index = part.indexOf('=');
+            if (index > 0) {
+                parts.put(part.substring(0, index).toUpperCase(), part.substring(index + 1));
+            }
+        }
+        CalendarRepeat repeat;
+        switch (parts.getOrDefault("FREQ", "").toUpperCase()) {
+            case "DAILY": repeat = CalendarRepeat.DAY; break;
+            case "WEEKLY": repeat = CalendarRepeat.WEEK; break;
+            case "MONTHLY": repeat = CalendarRepeat.MONTH; break;
+            case "YEARLY": repeat = CalendarRepeat.YEAR; break;
+            default: return false;
+        }
+        LocalDate start = calendar.getStartDate();
+        if (repeat == CalendarRepeat.YEAR && start.getMonth() == Month.FEBRUARY && start.getDayOfMonth() == 29) {
+            return false;
+        }
+        for (Map.Entry<String, String> part : parts.entrySet()) {
+            String key = part.getKey();
+            String value = part.getValue();
+            // 첫 회차와 같은 날짜만 가리키는 BY 규칙은 허용 (ex. 화요일 시작 + FREQ=WEEKLY;BYDAY=TU)
+            boolean sameAsStart;
+            if (key.equals("BYDAY") && repeat == CalendarRepeat.WEEK) {
+                sameAsStart = DAYS.get(value.toUpperCase()) == start.getDayOfWeek();
+            } else if (key.equals("BYMONTHDAY") && (repeat == CalendarRepeat.MONTH || repeat == CalendarRepeat.YEAR)) {
+                sameAsStart = value.equals(String.valueOf(start.getDayOfMonth()));
+            } else if (key.equals("BYMONTH") && repeat == CalendarRepeat.YEAR) {
+                sameAsStart = value.equals(String.valueOf(start.getMonthValue()));
+            } else {
+                sameAsStart = !key.startsWith("BY");
+            }
+            if (!sameAsStart) {
+                return false;
+            }
+        }
+
+        Integer interval = parts.containsKey("INTERVAL") ? Integer.valueOf(parts.get("INTERVAL")) : 1;
+        Integer count = parts.containsKey("COUNT") ? Integer.valueOf(parts.get("COUNT")) : null;
+        LocalDate until = null;
+        if (parts.containsKey("UNTIL")) {
+            LocalDateTime untilTime = parseDateTime(rrule, parts.get("UNTIL"));
+            until = untilTime.toLocalDate();
+            // 종료 시각이 회차 시작 시각보다 이르면 그날 회차는 포함하지 않는다.
+            if (!isDate(rrule, parts.get("UNTIL")) && calendar.getStartTime() != null
+                    && untilTime.toLocalTime().isBefore(calendar.getStartTime())) {
+                until = until.minusDays(1);
+            }
+        }
+        if (interval < 1 || interval > CalendarRepeatExpander.MAX_INTERVAL
+                || (count != null && (count < 1 || count > CalendarRepeatExpander.MAX_COUNT))
+                || (until != null && until.isBefore(start))) {
+            return false;
+        }
+        // 같은 달에만 돌아오는 월 반복(간격이 12의 배수, 2월 제외)이 아니면 해당 일이 없는 달이 생긴다.
+        if (repeat == CalendarRepeat.MONTH && start.getDayOfMonth() > 28
+                && (interval % 12 != 0 || start.getMonth() == Month.FEBRUARY)) {
+            return false;
+        }
+        calendar.setRepeat(repeat);
+        calendar.setRepeatInterval(interval);
+        calendar.setRepeatCount(count);
+        calendar.setRepeatUntil(until);
+        return true;
+    }
+
+    private static boolean isDate(Property property, String value) {
+        return "DATE".equalsIgnoreCase(property.params.get("VALUE")) || value.trim().length() == 8;
+    }
+
+    // DATE(yyyyMMdd) 또는 DATE-TIME(yyyyMMddTHHmmss[Z]) 값을 서버 시간대의 현지 시각으로 변환
+    private LocalDateTime parseDateTime(Property property, String value) {
+        String text = value.trim();
+        if (isDate(property, text)) {
+            return LocalDate.parse(text, DATE).atStartOfDay();
+        }
+        if (text.endsWith("Z") || text.endsWith("z")) {
+            return LocalDateTime.parse(text.substring(0, text.length() - 1), DATE_TIME)
+                    .atZone(ZoneOffset.UTC).withZoneSameInstant(zone).toLocalDateTime();
+        }
+        LocalDateTime dateTime = LocalDateTime.parse(text, DATE_TIME);
+        String tzid = property.params.get("TZID");
+        if (tzid != null) {
+            try {
+                return dateTime.atZone(ZoneId.of(tzid.startsWith("/") ? tzid.substring(1) : tzid))
+                        .withZoneSameInstant(zone).toLocalDateTime();
+            } catch (DateTimeException e) {
+                // 알 수 없는 TZID(Windows 시간대 이름 등)는 현지 시각으로 본다.
+            }
+        }
+        return dateTime;
+    }
+
+    // DURATION 값 (ex. PT1H30M, P1D, P2W)
+    private static Duration parseDuration(String value) {
+        String text = value.trim().toUpperCase();
+        boolean negative = text.startsWith("-");
+        if (negative || text.startsWith("+")) {
+            text = text.substring(1);
+        }
+        Duration duration = text.endsWith("W")
+                ? Duration.ofDays(7L * Integer.parseInt(text.substring(1, text.length() - 1)))
+                : Duration.parse(text);
+        return negative ? duration.negated() : duration;
+    }
+
+    // TEXT 값의 이스케이프 해제 (\\, \;, \,, \n)
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                builder.append(next == 'n' || next == 'N' ? '\n' : next);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 속성 한 줄 (NAME;PARAM=VALUE:값)
+     */
+    private static class Property {
+        private final String name;
+        private final Map<String, String> params;
+        private final String value;
+
+        private Property(String name, Map<String, String> params, String value) {
+            this.name = name;
+            this.params = params;
+            this.value = value;
+        }
+
+        // 따옴표 안의 ':', ';'는 구분자로 보지 않는다. (형식이 잘못된 줄은 null)
+        private static Property parse(String line) {
+            boolean quoted = false;
+            int colon = -1;
+            List<Integer> semicolons = new ArrayList<>();
+            for (int i = 0; i < line.length() && colon < 0; i++) {
+                char c = line.charAt(i);
+                if (c == '"') {
+                    quoted = !quoted;
+                } else if (!quoted && c == ';') {
+                    semicolons.add(i);
+                } else if (!quoted && c == ':') {
+                    colon = i;
+                }
+            }
+            if (colon <= 0) {
+                return null;
+            }
+            int nameEnd = semicolons.isEmpty() ? colon : semicolons.get(0);
+            Map<String, String> params = new HashMap<>();
+            for (int i = 0; i < semicolons.size(); i++) {
+                int end = i + 1 < semicolons.size() ? semicolons.get(i + 1) : colon;
+                String param = line.substring(semicolons.get(i) + 1, end);
+                int equals = param.indexOf('=');
+                if (equals > 0) {
+                    params.put(param.substring(0, equals).toUpperCase(), param.substring(equals + 1).replace("\"", ""));
+                }
+            }
+            return new Property(line.substring(0, nameEnd).toUpperCase(), params, line.substring(colon + 1));
+        }
+    }
+
+    /**
+     * VEVENT 하나 (저장 전 일정, UID, 회차 예외이면 원래 회차 날짜, 삭제한 회차 날짜)
+     */
+    @Getter
+    public static class IcsEvent {
+        private final Calendar calendar;
+        private final String uid;
+        private final LocalDate recurrenceId;
+        private final List<LocalDate> exceptionDates;
+        private final boolean ruleDropped; // 지원하지 않는 반복 규칙이라 첫 회차만 가져온 경우
+
+        private IcsEvent(Calendar calendar, String uid, LocalDate recurrenceId, List<LocalDate> exceptionDates, boolean ruleDropped) {
+            this.calendar = calendar;
+            this.uid = uid;
+            this.recurrenceId = recurrenceId;
+            this.exceptionDates = exceptionDates;
+            this.ruleDropped = ruleDropped;
+        }
+    }
+}
@@ -4,11 +4,10 @@ package com.umc.mada.category.controller;
 import com.umc.mada.category.dto.CategoryRequestDto;
 import com.umc.mada.category.dto.CategoryResponseDto;
 import com.umc.mada.category.service.CategoryService;
+import com.umc.mada.auth.resolver.LoginUser;
 import com.umc.mada.user.domain.User;
-import com.umc.mada.user.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -22,19 +21,15 @@ import java.util.*;
 public class CategoryController {
 
     private final CategoryService categoryService;
-    private final UserRepository userRepository;
 
     @Autowired
-    public CategoryController(CategoryService categoryService, UserRepository userRepository) {
+    public CategoryController(CategoryService categoryService) {
         this.categoryService = categoryService;
-        this.userRepository = userRepository;
     }
 
     @PostMapping
-    public ResponseEntity<Map<String, Object>> addCategory(Authentication authentication, @Valid @RequestBody CategoryRequestDto categoryRequestDto) {
+    public ResponseEntity<Map<String, Object>> addCategory(@LoginUser User user, @Valid @RequestBody CategoryRequestDto categoryRequestDto) {
         // 카테고리 생성 API
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
         CategoryResponseDto newCategory = categoryService.createCategory(user, categoryRequestDto);
         Map<String, Object> data = new LinkedHashMap<>();
         data.put("Category", newCategory);
@@ -47,10 +42,8 @@ public class CategoryController {
     }
 
     @PatchMapping("/{categoryId}")
-    public ResponseEntity<Map<String, Object>> updateCategory(Authentication authentication,@PathVariable int categoryId, @Valid @RequestBody CategoryRequestDto categoryRequestDto) {
+    public ResponseEntity<Map<String, Object>> updateCategory(@LoginUser User user,@PathVariable int categoryId, @Valid @RequestBody CategoryRequestDto categoryRequestDto) {
         // 카테고리 수정 API
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
         CategoryResponseDto updatedCategory = categoryService.updateCategory(user, categoryId, categoryRequestDto);
         Map<String, Object> data = new LinkedHashMap<>();
         data.put("Category", updatedCategory);
@@ -67,11 +60,9 @@ public class CategoryController {
     }
 
     @PatchMapping("/delete/{categoryId}")
-    public ResponseEntity<Map<String, Object>> deleteCategory(Authentication authentication, @PathVariable int categoryId) {
+    public ResponseEntity<Map<String, Object>> deleteCategory(@LoginUser User user, @PathVariable int categoryId) {
         // 카테고리 삭제 API
         try{
-            Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-            User user = userOptional.get();
             categoryService.deleteCategory(user,categoryId);
             Map<String, Object> result = new LinkedHashMap<>();
             //result.put("status", 200);
@@ -84,11 +75,9 @@ public class CategoryController {
     }
 
     @PatchMapping("/inactive/{categoryId}")
-    public ResponseEntity<Map<String, Object>> inactiveCategory(Authentication authentication, @PathVariable int categoryId) {
+    public ResponseEntity<Map<String, Object>> inactiveCategory(@LoginUser User user, @PathVariable int categoryId) {
         //카테고리 종료 API
         try{
-            Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-            User user = userOptional.get();
             categoryService.inactiveCategory(user, categoryId);
             Map<String, Object> result = new LinkedHashMap<>();
             return ResponseEntity.ok().body(result);
@@ -98,11 +87,9 @@ public class CategoryController {
     }
 
     @PatchMapping("/active/{categoryId}")
-    public ResponseEntity<Map<String, Object>> activeCategory(Authentication authentication, @PathVariable int categoryId) {
+    public ResponseEntity<Map<String, Object>> activeCategory(@LoginUser User user, @PathVariable int categoryId) {
         //종료된 카테고리 복원 API
         try{
-            Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-            User user = userOptional.get();
             categoryService.activeCategory(user, categoryId);
             Map<String, Object> result = new LinkedHashMap<>();
             return ResponseEntity.ok().body(result);
@@ -112,11 +99,9 @@ public class CategoryController {
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Map<String, Object>> getAllCategories(Authentication authentication) {
+    public ResponseEntity<Map<String, Object>> getAllCategories(@LoginUser User user) {
         // 특정 유저 카테고리 목록 조회 API (카테고리 목록)
         try {
-            Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-            User user = userOptional.get();
             List<CategoryResponseDto> allCategories = categoryService.getAllCategories(user);
             Map<String, Object> data = new LinkedHashMap<>();
             data.put("CategoryList", allCategories);
@@ -132,11 +117,9 @@ public class CategoryController {
     }
 
     @GetMapping("/date/{date}")
-    public ResponseEntity<Map<String, Object>> getHomeCategories(Authentication authentication, @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date) {
+    public ResponseEntity<Map<String, Object>> getHomeCategories(@LoginUser User user, @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date) {
         // 특정 유저 카테고리 목록 조회 API (home)
         try {
-            Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-            User user = userOptional.get();
             List<CategoryResponseDto> homeCategories = categoryService.getHomeCategories(user, date);
             Map<String, Object> data = new LinkedHashMap<>();
             data.put("CategoryList", homeCategories);
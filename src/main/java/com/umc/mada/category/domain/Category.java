@@ -14,7 +14,7 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Builder
-@Table(name = "CATEGORY")
+@Table(name = "CATEGORY", indexes = @Index(name = "idx_category_user_update", columnList = "user_id, update_at, id"))
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @AllArgsConstructor
 @NoArgsConstructor
@@ -2,9 +2,13 @@ package com.umc.mada.category.repository;
 
 import com.umc.mada.category.domain.Category;
 import com.umc.mada.user.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +17,15 @@ public interface CategoryRepository extends JpaRepository<Category, Integer> {
     List<Category> findCategoriesByUserId(User userId);
     Optional<Category> deleteCategoryByUserIdAndId(User userId, int id);
     Optional<Category> findCategoryByUserIdAndId(User userId, int id);
+
+    // 유저 카테고리 전체 조회 (삭제, 종료 포함 / 아이콘 fetch join)
+    @Query("select c from Category c join fetch c.icon where c.userId = :user")
+    List<Category> findCategoriesWithIconByUserId(@Param("user") User user);
+
+    // 동기화 커서 이후 변경된 카테고리 조회 (삭제 포함, update_at/id 키셋 페이징, before 이전에 수정된 행만)
+    @Query("select c from Category c join fetch c.icon " +
+            "where c.userId = :user and (c.updatedAt > :updatedAt or (c.updatedAt = :updatedAt and c.id > :id)) " +
+            "and c.updatedAt < :before " +
+            "order by c.updatedAt, c.id")
+    List<Category> findUserCategoriesUpdatedAfter(@Param("user") User user, @Param("updatedAt") LocalDateTime updatedAt, @Param("id") int id, @Param("before") LocalDateTime before, Pageable pageable);
 }
@@ -0,0 +1,92 @@
+package com.umc.mada.category.service;
+
+import com.umc.mada.category.domain.Category;
+import com.umc.mada.category.repository.CategoryRepository;
+import com.umc.mada.global.cache.ExpiringLruCache;
+import com.umc.mada.user.domain.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 유저별 카테고리 캐시 (투두 생성/수정/삭제 시 카테고리 검증용)
+ * 유저의 카테고리 전체를 아이콘과 함께 한 번에 불러와 보관하고, CategoryService에서 카테고리가 바뀌면 비운다.
+ * DB 조회는 잠금 밖에서 하므로, 조회하는 동안 캐시가 비워졌으면(세대가 바뀌었으면) 조회 결과를 캐시에 넣지 않는다.
+ */
+@Component
+public class CategoryCache {
+    private static final int MAX_USERS = 10_000;
+    private static final long TTL_MILLIS = 10 * 60 * 1000L; // 10분
+    private static final int GENERATION_STRIPES = 4096;
+
+    private final CategoryRepository categoryRepository;
+    private final ExpiringLruCache<Long, Map<Integer, Category>> cache = new ExpiringLruCache<>(MAX_USERS, TTL_MILLIS);
+    // 유저별 변경 세대 (유저 ID로 나눈 칸마다 하나, 같은 칸의 다른 유저가 바뀌면 한 번 더 조회할 뿐이다)
+    // 세대 변경과 캐시 삭제, 세대 확인과 캐시 저장은 모두 lock 안에서 한다.
+    private final long[] generations = new long[GENERATION_STRIPES];
+    private final Object lock = new Object();
+
+    @Autowired
+    public CategoryCache(CategoryRepository categoryRepository) {
+        this.categoryRepository = categoryRepository;
+    }
+
+    public Optional<Category> find(User user, int categoryId) {
+        Map<Integer, Category> categories = cache.get(user.getId());
+        Category category = categories == null ? null : categories.get(categoryId);
+        if (category == null) {
+            // 캐시가 없거나, 다른 서버에서 방금 생성된 카테고리일 수 있으므로 DB에서 다시 불러온다.
+            category = load(user).get(categoryId);
+        }
+        return Optional.ofNullable(category);
+    }
+
+    // 카테고리 변경 시 호출 (트랜잭션 중이면 커밋 이후에도 한 번 더 비워서 커밋 전 값이 다시 캐시되지 않게 한다)
+    public void evict(User user) {
+        Long userId = user.getId();
+        evictNow(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(userId);
+                }
+            });
+        }
+    }
+
+    private void evictNow(Long userId) {
+        synchronized (lock) {
+            generations[stripe(userId)]++;
+            cache.evict(userId);
+        }
+    }
+
+    // 조회를 시작한 뒤로 캐시가 비워지지 않았을 때만 저장 (비워졌으면 이번 조회에만 쓰고 버린다)
+    private Map<Integer, Category> load(User user) {
+        Long userId = user.getId();
+        long generation;
+        synchronized (lock) {
+            generation = generations[stripe(userId)];
+        }
+        Map<Integer, Category> categories = Collections.unmodifiableMap(categoryRepository.findCategoriesWithIconByUserId(user).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity())));
+        synchronized (lock) {
+            if (generations[stripe(userId)] == generation) {
+                cache.put(userId, categories);
+            }
+        }
+        return categories;
+    }
+
+    private static int stripe(Long userId) {
+        return (int) Math.floorMod(userId, (long) GENERATION_STRIPES);
+    }
+}
@@ -8,10 +8,12 @@ import com.umc.mada.category.repository.CategoryRepository;
 import com.umc.mada.todo.domain.RepeatTodo;
 import com.umc.mada.todo.repository.RepeatTodoRepository;
 import com.umc.mada.todo.repository.TodoRepository;
+import com.umc.mada.todo.service.RepeatTodoExpander;
+import com.umc.mada.todo.service.StatisticsCache;
+import com.umc.mada.todo.service.TodoStatisticsRecorder;
 import com.umc.mada.category.repository.IconRepository;
 import com.umc.mada.todo.domain.Todo;
 import com.umc.mada.user.domain.User;
-import com.umc.mada.user.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import com.umc.mada.global.BaseResponseStatus;
@@ -29,15 +31,21 @@ public class CategoryService {
     private final TodoRepository todoRepository;
     private final RepeatTodoRepository repeatTodoRepository;
     private final IconRepository iconRepository;
-    private final UserRepository userRepository;
+    private final RepeatTodoExpander repeatTodoExpander;
+    private final CategoryCache categoryCache;
+    private final TodoStatisticsRecorder todoStatisticsRecorder;
+    private final StatisticsCache statisticsCache;
 
     @Autowired
-    public CategoryService(UserRepository userRepository, TodoRepository todoRepository, RepeatTodoRepository repeatTodoRepository, CategoryRepository categoryRepository, IconRepository iconRepository) {
+    public CategoryService(TodoRepository todoRepository, RepeatTodoRepository repeatTodoRepository, CategoryRepository categoryRepository, IconRepository iconRepository, RepeatTodoExpander repeatTodoExpander, CategoryCache categoryCache, TodoStatisticsRecorder todoStatisticsRecorder, StatisticsCache statisticsCache) {
         this.todoRepository = todoRepository;
         this.repeatTodoRepository = repeatTodoRepository;
-        this.userRepository = userRepository;
         this.categoryRepository = categoryRepository;
         this.iconRepository = iconRepository;
+        this.repeatTodoExpander = repeatTodoExpander;
+        this.categoryCache = categoryCache;
+        this.todoStatisticsRecorder = todoStatisticsRecorder;
+        this.statisticsCache = statisticsCache;
     }
 
     /**
@@ -66,6 +74,8 @@ public class CategoryService {
                 icon);
         // 카테고리를 저장하고 저장된 카테고리 엔티티 반환
         Category savedCategory = categoryRepository.save(category);
+        categoryCache.evict(user);
+        statisticsCache.evictAll(user);
         // 저장된 카테고리 정보를 기반으로 CategoryResponseDto 생성하여 반환
         return CategoryResponseDto.of(savedCategory);
     }
@@ -104,6 +114,8 @@ public class CategoryService {
 
         // 수정된 카테고리를 저장하고 저장된 카테고리 엔티티 반환
         Category updatedCategory = categoryRepository.save(category);
+        categoryCache.evict(user);
+        statisticsCache.evictAll(user);
 
         // 저장된 카테고리 정보를 기반으로 CategoryResponseDto 생성하여 반환
         return CategoryResponseDto.of(updatedCategory);
@@ -121,6 +133,8 @@ public class CategoryService {
             category.setIsInActive(true);
             category.setInActiveTime(LocalDateTime.now());
             categoryRepository.save(category);
+            categoryCache.evict(userId);
+            statisticsCache.evictAll(userId);
         }else {
             throw new IllegalArgumentException(BaseResponseStatus.NOT_FOUND.getMessage());
         }
@@ -138,6 +152,8 @@ public class CategoryService {
             category.setIsInActive(false);
             category.setInActiveTime(null);
             categoryRepository.save(category);
+            categoryCache.evict(userId);
+            statisticsCache.evictAll(userId);
         }else {
             throw new IllegalArgumentException(BaseResponseStatus.NOT_FOUND.getMessage());
         }
@@ -155,10 +171,13 @@ public class CategoryService {
             Category category = optionalCategory.get();
             category.setIsDeleted(true);
             categoryRepository.save(category);
+            categoryCache.evict(userId);
+            statisticsCache.evictAll(userId);
             for (Todo todo : todosToDelete) {
                 todo.setIsDeleted(true);
             }
             todoRepository.saveAll(todosToDelete);
+            todoStatisticsRecorder.categoryDeleted(userId, categoryId);
         } else {
             throw new IllegalArgumentException(BaseResponseStatus.NOT_FOUND.getMessage());
         }
@@ -192,8 +211,7 @@ public class CategoryService {
                     List<Todo> todoList = todoRepository.findTodosByUserIdAndCategoryIdAndIsDeletedIsFalse(userId, category.getId());
                     return !category.getIsInActive() ||
                             todoList.stream().anyMatch(todo -> !todo.getIsDeleted() && (todo.getDate() != null && todo.getDate().equals(date) ||
-                                    todo.getDate() == null && repeatTodoRepository.findRepeatTodosByTodoIdAndIsDeletedIsFalse(todo).stream()
-                                            .anyMatch(repeatTodo -> repeatTodo.getDate() != null && repeatTodo.getDate().equals(date)))
+                                    todo.getDate() == null && repeatTodoExpander.occursOn(todo, date))
                             );
                 })
                 .map(CategoryResponseDto::of)
@@ -203,8 +221,8 @@ public class CategoryService {
 
     // 유저 ID 유효성 검사 메서드
     private void validateUserId(User userId) {
-        Optional<User> optionalUser = userRepository.findUserById(userId.getId());
-        if (optionalUser.isEmpty()) {
+        // 유저는 LoginUserArgumentResolver에서 요청당 한 번 조회되므로 다시 조회하지 않는다.
+        if (userId == null || userId.getId() == null) {
             throw new IllegalArgumentException("존재하지 않는 유저 ID입니다.");
         }
     }
@@ -0,0 +1,26 @@
+package com.umc.mada.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ChartExecutorConfig {
+    // 통계 쿼리 동시 실행용 스레드 풀 (DB 커넥션 풀을 다 쓰지 않도록 크기를 제한)
+    @Bean(name = "chartQueryExecutor")
+    public ThreadPoolTaskExecutor chartQueryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("chart-query-");
+        // 큐가 가득 차면 요청 스레드에서 직접 실행 (쿼리를 버리지 않고 속도만 늦춘다)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,25 @@
+package com.umc.mada.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class StreamingExecutorConfig {
+    // 스트리밍 응답(투두 내보내기, 일정 가져오기/내보내기) 타임아웃 (기록이 긴 계정이나 큰 파일도 끝까지 처리하도록)
+    public static final long STREAMING_TIMEOUT_MILLIS = 10 * 60 * 1000L; // 10분
+
+    // 스트리밍 응답 실행용 스레드 풀 (오래 걸리는 요청이 다른 비동기 요청의 스레드를 차지하지 않도록 분리)
+    @Bean(name = "streamingExecutor")
+    public ThreadPoolTaskExecutor streamingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("streaming-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
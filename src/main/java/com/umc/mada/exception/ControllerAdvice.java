@@ -18,6 +18,11 @@ public class ControllerAdvice {
     public ResponseEntity<ErrorResponse> notAllowToWearingHandler(final NotAllowToWearingException e){
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponse(e.getMessage()));
     }
+
+    @ExceptionHandler(StatisticsTimeoutException.class)
+    public ResponseEntity<ErrorResponse> statisticsTimeoutHandler(final StatisticsTimeoutException e){
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ErrorResponse(e.getMessage()));
+    }
     @ExceptionHandler(ServerInternalException.class)
     public ResponseEntity<ErrorResponse> testErrorHandler(final ServerInternalException e, HttpServletRequest httpServletRequest){
         ErrorResponse errorResponse = ErrorResponse.builder()
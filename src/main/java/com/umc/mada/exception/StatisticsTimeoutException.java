@@ -0,0 +1,7 @@
+package com.umc.mada.exception;
+
+public class StatisticsTimeoutException extends RuntimeException{
+    public StatisticsTimeoutException(final String message){
+        super(message);
+    }
+}
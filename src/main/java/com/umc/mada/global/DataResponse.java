@@ -0,0 +1,20 @@
+package com.umc.mada.global;
+
+import lombok.Getter;
+
+/**
+ * {"data": ...} 형태의 공통 응답
+ * Map 대신 타입이 정해진 DTO를 감싸서 반환한다.
+ */
+@Getter
+public class DataResponse<T> {
+    private final T data;
+
+    private DataResponse(T data) {
+        this.data = data;
+    }
+
+    public static <T> DataResponse<T> of(T data) {
+        return new DataResponse<>(data);
+    }
+}
@@ -1,10 +1,11 @@
 package com.umc.mada.my.controller;
 
+import com.umc.mada.auth.resolver.LoginUser;
 import com.umc.mada.my.dto.MyResponseDto;
 import com.umc.mada.my.service.MyService;
+import com.umc.mada.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.*;
@@ -17,9 +18,9 @@ public class MyController {
 //    public List<MyResponseDto> getAllSaying() { return myService.findAllSaying(); }
 
     @GetMapping("/my")
-    public ResponseEntity<Map<String, Object>> myPageList(Authentication authentication) {
+    public ResponseEntity<Map<String, Object>> myPageList(@LoginUser User user) {
         Map<String, Object> map = new HashMap<>();
-        map.put("data", myService.findMyProfileList(authentication));
+        map.put("data", myService.findMyProfileList(user));
         return ResponseEntity.ok(map);
     }
 }
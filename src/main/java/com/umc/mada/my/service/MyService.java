@@ -5,9 +5,7 @@ import com.umc.mada.my.dto.MyResponseDto;
 import com.umc.mada.my.repository.MyRepository;
 import com.umc.mada.user.domain.User;
 import com.umc.mada.user.service.UserService;
-import com.umc.mada.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
@@ -17,7 +15,6 @@ import java.util.*;
 @RequiredArgsConstructor
 public class MyService {
     private final MyRepository myRepository;
-    private final UserRepository userRepository;
 
     @Transactional
     public List<MyResponseDto> findRandomSaying() {
@@ -35,13 +32,7 @@ public class MyService {
         return null;
     }
 
-    private User getUser(Authentication authentication){
-        Optional<User> optionalUser = userRepository.findByAuthId(authentication.getName());
-        return optionalUser.get();
-    }
-
-    public Map<String, Object> findMyProfileList(Authentication authentication) {
-        User user = getUser(authentication);
+    public Map<String, Object> findMyProfileList(User user) {
         Map<String, Object> profileList = new HashMap<>();
         profileList.put("nickname", user.getNickname());
         profileList.put("saying", this.findRandomSaying());
@@ -0,0 +1,34 @@
+package com.umc.mada.sync.controller;
+
+import com.umc.mada.auth.resolver.LoginUser;
+import com.umc.mada.sync.service.SyncService;
+import com.umc.mada.user.domain.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/sync")
+public class SyncController {
+    private final SyncService syncService;
+
+    @Autowired
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    @GetMapping
+    // 변경분 동기화 API (cursor가 없으면 전체, 있으면 그 이후 변경분만)
+    // 최근 10초 안에 수정된 행은 다음 요청에서 내려간다. 수정 후 10초 넘게 걸려 커밋된 행은 cursor 없이 다시 동기화해야 받을 수 있다.
+    public ResponseEntity<Map<String, Object>> sync(@LoginUser User user,
+                                                    @RequestParam(value = "cursor", required = false) String cursor,
+                                                    @RequestParam(value = "size", required = false) Integer size) {
+        Map<String, Object> map = syncService.sync(user, cursor, size);
+        return ResponseEntity.ok().body(map);
+    }
+}
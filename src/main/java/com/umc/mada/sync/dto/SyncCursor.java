@@ -0,0 +1,70 @@
+package com.umc.mada.sync.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * 동기화 커서
+ * 엔티티 종류별로 마지막으로 내려준 행의 (updatedAt, id)를 기억하고, 클라이언트에는 불투명한 문자열로 전달한다.
+ */
+public class SyncCursor {
+    // 커서가 없을 때의 시작 위치
+    private static final Position INITIAL = new Position(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    private final Map<SyncType, Position> positions = new EnumMap<>(SyncType.class);
+
+    public enum SyncType {
+        CATEGORY, TODO, REPEAT_TODO, CALENDAR, TIMETABLE, COMMENT
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Position {
+        private final LocalDateTime updatedAt;
+        private final long id;
+    }
+
+    public Position get(SyncType type) {
+        return positions.getOrDefault(type, INITIAL);
+    }
+
+    public void advance(SyncType type, LocalDateTime updatedAt, long id) {
+        positions.put(type, new Position(updatedAt, id));
+    }
+
+    // "TYPE=updatedAt,id;..." 형태를 base64url로 인코딩
+    public String encode() {
+        StringJoiner joiner = new StringJoiner(";");
+        positions.forEach((type, position) -> joiner.add(type.name() + "=" + position.getUpdatedAt() + "," + position.getId()));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SyncCursor decode(String cursor) {
+        SyncCursor syncCursor = new SyncCursor();
+        if (cursor == null || cursor.isEmpty()) {
+            return syncCursor;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            for (String entry : decoded.split(";")) {
+                if (entry.isEmpty()) {
+                    continue;
+                }
+                String[] typeAndPosition = entry.split("=", 2);
+                String[] position = typeAndPosition[1].split(",", 2);
+                syncCursor.advance(SyncType.valueOf(typeAndPosition[0]), LocalDateTime.parse(position[0]), Long.parseLong(position[1]));
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("INVALID_CURSOR");
+        }
+        return syncCursor;
+    }
+}
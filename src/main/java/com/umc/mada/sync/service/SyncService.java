@@ -0,0 +1,138 @@
+package com.umc.mada.sync.service;
+
+import com.umc.mada.calendar.domain.Calendar;
+import com.umc.mada.calendar.dto.CalendarResponseDto;
+import com.umc.mada.calendar.repository.CalendarRepository;
+import com.umc.mada.category.domain.Category;
+import com.umc.mada.category.dto.CategoryResponseDto;
+import com.umc.mada.category.repository.CategoryRepository;
+import com.umc.mada.sync.dto.SyncCursor;
+import com.umc.mada.sync.dto.SyncCursor.Position;
+import com.umc.mada.sync.dto.SyncCursor.SyncType;
+import com.umc.mada.timetable.domain.Comment;
+import com.umc.mada.timetable.domain.Timetable;
+import com.umc.mada.timetable.dto.CommentResponseDto;
+import com.umc.mada.timetable.dto.TimetableResponseDto;
+import com.umc.mada.timetable.repository.CommentRepository;
+import com.umc.mada.timetable.repository.TimetableRepository;
+import com.umc.mada.todo.domain.RepeatTodo;
+import com.umc.mada.todo.domain.Todo;
+import com.umc.mada.todo.dto.RepeatTodoResponseDto;
+import com.umc.mada.todo.dto.TodoResponseDto;
+import com.umc.mada.todo.repository.RepeatTodoRepository;
+import com.umc.mada.todo.repository.TodoRepository;
+import com.umc.mada.user.domain.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+public class SyncService {
+    // 한 번에 내려주는 엔티티 종류별 최대 행 수
+    private static final int DEFAULT_SIZE = 100;
+    private static final int MAX_SIZE = 500;
+    // update_at은 커밋 순서가 아니라 flush 시각이므로, 아직 커밋 중일 수 있는 최근 행은 다음 동기화에서 내려준다.
+    private static final long SAFETY_LAG_SECONDS = 10;
+
+    private final CategoryRepository categoryRepository;
+    private final TodoRepository todoRepository;
+    private final RepeatTodoRepository repeatTodoRepository;
+    private final CalendarRepository calendarRepository;
+    private final TimetableRepository timetableRepository;
+    private final CommentRepository commentRepository;
+
+    @Autowired
+    public SyncService(CategoryRepository categoryRepository, TodoRepository todoRepository, RepeatTodoRepository repeatTodoRepository,
+                       CalendarRepository calendarRepository, TimetableRepository timetableRepository, CommentRepository commentRepository) {
+        this.categoryRepository = categoryRepository;
+        this.todoRepository = todoRepository;
+        this.repeatTodoRepository = repeatTodoRepository;
+        this.calendarRepository = calendarRepository;
+        this.timetableRepository = timetableRepository;
+        this.commentRepository = commentRepository;
+    }
+
+    /**
+     * 커서 이후 생성, 수정, 삭제된 행만 반환한다.
+     * 엔티티 종류별로 (updatedAt, id) 키셋 페이징을 하고, 한 종류라도 size를 채우면 hasMore = true로 이어서 요청하게 한다.
+     * 커서가 늦게 커밋된 행을 건너뛰지 않도록 SAFETY_LAG_SECONDS 이전에 수정된 행만 반환한다.
+     * 이 지연은 경험적인 값이다. update_at을 찍은 뒤 SAFETY_LAG_SECONDS보다 늦게 커밋된 트랜잭션의 행은 커서가 이미 지나갔으므로
+     * 이후 동기화에서도 내려가지 않는다. 이런 누락은 cursor 없이 전체 동기화해야 복구된다.
+     */
+    public Map<String, Object> sync(User user, String cursor, Integer size) {
+        SyncCursor syncCursor = SyncCursor.decode(cursor);
+        int pageSize = size == null ? DEFAULT_SIZE : Math.max(1, Math.min(size, MAX_SIZE));
+        // 다음 페이지 존재 여부 확인을 위해 한 행 더 조회
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        LocalDateTime before = LocalDateTime.now().minusSeconds(SAFETY_LAG_SECONDS);
+
+        Position position = syncCursor.get(SyncType.CATEGORY);
+        List<Category> categories = trim(categoryRepository.findUserCategoriesUpdatedAfter(user, position.getUpdatedAt(), (int) position.getId(), before, pageable), pageSize);
+        position = syncCursor.get(SyncType.TODO);
+        List<Todo> todos = trim(todoRepository.findUserTodosUpdatedAfter(user, position.getUpdatedAt(), (int) position.getId(), before, pageable), pageSize);
+        position = syncCursor.get(SyncType.REPEAT_TODO);
+        List<RepeatTodo> repeatTodos = trim(repeatTodoRepository.findUserRepeatTodosUpdatedAfter(user, position.getUpdatedAt(), (int) position.getId(), before, pageable), pageSize);
+        position = syncCursor.get(SyncType.CALENDAR);
+        List<Calendar> calendars = trim(calendarRepository.findUserCalendarsUpdatedAfter(user, position.getUpdatedAt(), position.getId(), before, pageable), pageSize);
+        position = syncCursor.get(SyncType.TIMETABLE);
+        List<Timetable> timetables = trim(timetableRepository.findUserTimetablesUpdatedAfter(user, position.getUpdatedAt(), (int) position.getId(), before, pageable), pageSize);
+        position = syncCursor.get(SyncType.COMMENT);
+        List<Comment> comments = trim(commentRepository.findUserCommentsUpdatedAfter(user, position.getUpdatedAt(), (int) position.getId(), before, pageable), pageSize);
+
+        // 종류별로 마지막 행 위치로 커서 이동
+        if (!categories.isEmpty()) {
+            Category last = categories.get(categories.size() - 1);
+            syncCursor.advance(SyncType.CATEGORY, last.getUpdatedAt(), last.getId());
+        }
+        if (!todos.isEmpty()) {
+            Todo last = todos.get(todos.size() - 1);
+            syncCursor.advance(SyncType.TODO, last.getUpdatedAt(), last.getId());
+        }
+        if (!repeatTodos.isEmpty()) {
+            RepeatTodo last = repeatTodos.get(repeatTodos.size() - 1);
+            syncCursor.advance(SyncType.REPEAT_TODO, last.getUpdatedAt(), last.getId());
+        }
+        if (!calendars.isEmpty()) {
+            Calendar last = calendars.get(calendars.size() - 1);
+            syncCursor.advance(SyncType.CALENDAR, last.getUpdatedAt(), last.getId());
+        }
+        if (!timetables.isEmpty()) {
+            Timetable last = timetables.get(timetables.size() - 1);
+            syncCursor.advance(SyncType.TIMETABLE, last.getUpdatedAt(), last.getId());
+        }
+        if (!comments.isEmpty()) {
+            Comment last = comments.get(comments.size() - 1);
+            syncCursor.advance(SyncType.COMMENT, last.getUpdatedAt(), last.getId());
+        }
+
+        boolean hasMore = categories.size() == pageSize || todos.size() == pageSize || repeatTodos.size() == pageSize
+                || calendars.size() == pageSize || timetables.size() == pageSize || comments.size() == pageSize;
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("CategoryList", categories.stream().map(CategoryResponseDto::of).collect(Collectors.toList()));
+        data.put("TodoList", todos.stream().map(TodoResponseDto::of).collect(Collectors.toList()));
+        data.put("RepeatTodoList", repeatTodos.stream().map(RepeatTodoResponseDto::of).collect(Collectors.toList()));
+        data.put("CalendarList", calendars.stream().map(CalendarResponseDto::of).collect(Collectors.toList()));
+        data.put("TimetableList", timetables.stream().map(TimetableResponseDto::of).collect(Collectors.toList()));
+        data.put("CommentList", comments.stream().map(CommentResponseDto::of).collect(Collectors.toList()));
+        data.put("cursor", syncCursor.encode());
+        data.put("hasMore", hasMore);
+        map.put("data", data);
+        return map;
+    }
+
+    // 확인용으로 더 가져온 한 행 제거
+    private <T> List<T> trim(List<T> rows, int pageSize) {
+        return rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+    }
+}
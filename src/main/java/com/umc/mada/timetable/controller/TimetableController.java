@@ -5,18 +5,18 @@ import com.umc.mada.calendar.repository.CalendarRepository;
 import com.umc.mada.timetable.domain.DayOfWeek;
 import com.umc.mada.timetable.dto.CommentRequestDto;
 import com.umc.mada.timetable.dto.CommentResponseDto;
+import com.umc.mada.timetable.dto.ScheduleSearchResponseDto;
 import com.umc.mada.timetable.dto.TimetableRequestDto;
 import com.umc.mada.timetable.dto.TimetableResponseDto;
 import com.umc.mada.timetable.service.TimetableService;
 import com.umc.mada.todo.domain.Todo;
 import com.umc.mada.todo.repository.TodoRepository;
+import com.umc.mada.auth.resolver.LoginUser;
 import com.umc.mada.user.domain.User;
-import com.umc.mada.user.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
@@ -26,16 +26,14 @@ import java.util.*;
 @RequestMapping("/api/home/time")
 public class TimetableController {
     private final TimetableService timetableService;
-    private final UserRepository userRepository;
     private final TodoRepository todoRepository;
     private final CalendarRepository calendarRepository;
 
     @Autowired
-    public TimetableController(TodoRepository todoRepository, CalendarRepository calendarRepository, TimetableService timetableService, UserRepository userRepository) {
+    public TimetableController(TodoRepository todoRepository, CalendarRepository calendarRepository, TimetableService timetableService) {
         this.todoRepository = todoRepository;
         this.calendarRepository = calendarRepository;
         this.timetableService = timetableService;
-        this.userRepository = userRepository;
     }
 
     /**
@@ -43,10 +41,8 @@ public class TimetableController {
      *
      */
     @PostMapping("/comment")
-    public ResponseEntity<Map<String, Object>> createTimetableComment(Authentication authentication, @RequestBody CommentRequestDto commentRequestDto){
+    public ResponseEntity<Map<String, Object>> createTimetableComment(@LoginUser User user, @RequestBody CommentRequestDto commentRequestDto){
         // comment 생성 API
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
         CommentResponseDto newComment = timetableService.createComment(user, commentRequestDto);
         Map<String, Object> data = new LinkedHashMap<>();
         data.put("Comment", newComment);
@@ -56,10 +52,8 @@ public class TimetableController {
     }
 
     @PatchMapping("/comment/update/{date}")
-    public ResponseEntity<Map<String, Object>> updateTimetableComment(Authentication authentication, @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date, @RequestBody CommentRequestDto commentRequestDto){
+    public ResponseEntity<Map<String, Object>> updateTimetableComment(@LoginUser User user, @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date, @RequestBody CommentRequestDto commentRequestDto){
         // comment 수정 API
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
         CommentResponseDto updatedComment = timetableService.updateComment(user, date, commentRequestDto);
         Map<String, Object> data = new LinkedHashMap<>();
         data.put("Comment", updatedComment);
@@ -69,9 +63,7 @@ public class TimetableController {
     }
 
     @GetMapping("/comment/date/{date}")
-    public ResponseEntity<Map<String, Object>> getUserTimetableComment(Authentication authentication, @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date){
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
+    public ResponseEntity<Map<String, Object>> getUserTimetableComment(@LoginUser User user, @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date){
         CommentResponseDto userComment = timetableService.getUserComment(user, date);
         Map<String, Object> data = new LinkedHashMap<>();
         data.put("Comment", userComment);
@@ -86,10 +78,8 @@ public class TimetableController {
      */
 
     @PostMapping("/daily")
-    public ResponseEntity<Map<String, Object>> createDailyTimetable(Authentication authentication, @RequestBody TimetableRequestDto timetableRequestDto){
+    public ResponseEntity<Map<String, Object>> createDailyTimetable(@LoginUser User user, @RequestBody TimetableRequestDto timetableRequestDto){
         // 일일 시간표 일정 생성 API
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
         TimetableResponseDto newTimetable = timetableService.createTimetable(user, timetableRequestDto);
         Map<String, Object> data = new LinkedHashMap<>();
         data.put("DailyTimetable", newTimetable);
@@ -102,10 +92,8 @@ public class TimetableController {
     }
 
     @PostMapping("/daily/loadWeekly/{date}")
-    public ResponseEntity<Map<String, Object>> loadDailyTimetableFromWeekly(Authentication authentication, @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date){
+    public ResponseEntity<Map<String, Object>> loadDailyTimetableFromWeekly(@LoginUser User user, @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date){
         // 주간시간표 불러오기 API
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
         Map<String, Object> map = timetableService.checkAndLoadDailyData(user, date);
         //result.put("status", 200);
         //result.put("success", true);
@@ -114,10 +102,8 @@ public class TimetableController {
     }
 
     @PatchMapping("/daily/update/{scheduleId}")
-    public ResponseEntity<Map<String, Object>> updateDailyTimetable(Authentication authentication, @PathVariable int scheduleId, @RequestBody TimetableRequestDto timetableRequestDto){
+    public ResponseEntity<Map<String, Object>> updateDailyTimetable(@LoginUser User user, @PathVariable int scheduleId, @RequestBody TimetableRequestDto timetableRequestDto){
         // 일일 시간표 일정 수정 API
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
         TimetableResponseDto updatedTimetable = timetableService.updateTimetable(user, scheduleId, timetableRequestDto);
         Map<String, Object> data = new LinkedHashMap<>();
         data.put("DailyTimetable", updatedTimetable);
@@ -130,10 +116,8 @@ public class TimetableController {
     }
 
     @PatchMapping("/daily/delete/{scheduleId}")
-    public ResponseEntity<Map<String, Object>> deleteDailyTimetable(Authentication authentication, @PathVariable int scheduleId) {
+    public ResponseEntity<Map<String, Object>> deleteDailyTimetable(@LoginUser User user, @PathVariable int scheduleId) {
         // 일일 시간표 일정 삭제 API
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
         timetableService.deleteTimetable(user, scheduleId);
         Map<String, Object> result = new LinkedHashMap<>();
         //result.put("status", 200);
@@ -144,9 +128,7 @@ public class TimetableController {
 
     @GetMapping("/daily/date/{date}")
     // 일일 시간표 조회 API
-    public ResponseEntity<Map<String, Object>> getUserDailyTimetable(Authentication authentication, @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date){
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
+    public ResponseEntity<Map<String, Object>> getUserDailyTimetable(@LoginUser User user, @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date){
         List<TimetableResponseDto> userTimetables = timetableService.getDailyTimetable(user, date);
         Map<String, Object> data = new LinkedHashMap<>();
         data.put("DailyTimetableList", userTimetables);
@@ -163,10 +145,8 @@ public class TimetableController {
      *
      */
     @PostMapping("/weekly/create")
-    public ResponseEntity<Map<String, Object>> createWeeklyTimetable(Authentication authentication, @RequestBody TimetableRequestDto timetableRequestDto){
+    public ResponseEntity<Map<String, Object>> createWeeklyTimetable(@LoginUser User user, @RequestBody TimetableRequestDto timetableRequestDto){
         // 주간 시간표 일정 생성 API
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
         TimetableResponseDto newTimetable = timetableService.createTimetable(user, timetableRequestDto);
         Map<String, Object> data = new LinkedHashMap<>();
         data.put("WeeklyTimetable", newTimetable);
@@ -179,10 +159,8 @@ public class TimetableController {
     }
 
     @PatchMapping("/weekly/update/{scheduleId}")
-    public ResponseEntity<Map<String, Object>> updateWeeklyTimetable(Authentication authentication, @PathVariable int scheduleId, @RequestBody TimetableRequestDto timetableRequestDto){
+    public ResponseEntity<Map<String, Object>> updateWeeklyTimetable(@LoginUser User user, @PathVariable int scheduleId, @RequestBody TimetableRequestDto timetableRequestDto){
         // 주간 시간표 일정 수정 API
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
         TimetableResponseDto updatedTimetable = timetableService.updateTimetable(user, scheduleId, timetableRequestDto);
         Map<String, Object> data = new LinkedHashMap<>();
         data.put("WeeklyTimetable", updatedTimetable);
@@ -195,10 +173,8 @@ public class TimetableController {
     }
 
     @PatchMapping("/weekly/delete/{scheduleId}")
-    public ResponseEntity<Map<String, Object>> deleteWeeklyTimetable(Authentication authentication, @PathVariable int scheduleId) {
+    public ResponseEntity<Map<String, Object>> deleteWeeklyTimetable(@LoginUser User user, @PathVariable int scheduleId) {
         // 주간 시간표 일정 삭제 API
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
         timetableService.deleteTimetable(user, scheduleId);
         Map<String, Object> result = new LinkedHashMap<>();
         //result.put("status", 200);
@@ -209,9 +185,7 @@ public class TimetableController {
 
     @GetMapping("/weekly")
     // 주간 시간표 일정 조회 API
-    public ResponseEntity<Map<String, Object>> getUserWeeklyTimetable(Authentication authentication){
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
+    public ResponseEntity<Map<String, Object>> getUserWeeklyTimetable(@LoginUser User user){
         List<TimetableResponseDto> userTimetables = timetableService.getWeeklyTimetable(user);
         Map<String, Object> data = new LinkedHashMap<>();
         data.put("WeeklyTimetableList", userTimetables);
@@ -226,10 +200,8 @@ public class TimetableController {
 
     @GetMapping("search/date/{date}")
     // 시간표 추가 시, 특정 유저 일정(캘린더)과 투두 조회 API
-    public ResponseEntity<Map<String, Object>> getTodoAndCalendar(Authentication authentication, @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date) {
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
-        Map<String, Object> map = timetableService.getTodoAndCalendar(user, date);
-        return ResponseEntity.ok().body(map);
+    public ResponseEntity<ScheduleSearchResponseDto> getTodoAndCalendar(@LoginUser User user, @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date) {
+        ScheduleSearchResponseDto response = timetableService.getTodoAndCalendar(user, date);
+        return ResponseEntity.ok().body(response);
     }
 }
@@ -15,7 +15,7 @@ import java.time.LocalTime;
 @Getter
 @Setter
 @Builder
-@Table(name = "COMMENT")
+@Table(name = "COMMENT", indexes = @Index(name = "idx_comment_user_update", columnList = "user_id, update_at, id"))
 @AllArgsConstructor
 @NoArgsConstructor
 public class Comment {
@@ -17,7 +17,7 @@ import java.time.LocalTime;
 @Getter
 @Setter
 @Builder
-@Table(name = "TIMETABLE")
+@Table(name = "TIMETABLE", indexes = @Index(name = "idx_timetable_user_update", columnList = "user_id, update_at, id"))
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @AllArgsConstructor
 @NoArgsConstructor
@@ -1,5 +1,6 @@
 package com.umc.mada.timetable.dto;
 
+import com.umc.mada.timetable.domain.Comment;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,4 +16,8 @@ public class CommentResponseDto {
     private int id;
     private LocalDate date;
     private String content;
+
+    public static CommentResponseDto of(Comment comment) {
+        return new CommentResponseDto(comment.getId(), comment.getDate(), comment.getContent());
+    }
 }
@@ -0,0 +1,55 @@
+package com.umc.mada.timetable.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Getter;
+
+import java.time.LocalTime;
+import java.util.List;
+
+// 시간표 추가 시 특정 날짜의 일정(캘린더)과 투두 조회 응답
+@Getter
+@JsonPropertyOrder({"calendarList", "todoList", "repeatTodoList"})
+public class ScheduleSearchResponseDto {
+    private final List<CalendarItem> calendarList;
+    private final List<TodoItem> todoList;
+    private final List<TodoItem> repeatTodoList;
+
+    public ScheduleSearchResponseDto(List<CalendarItem> calendarList, List<TodoItem> todoList, List<TodoItem> repeatTodoList) {
+        this.calendarList = calendarList;
+        this.todoList = todoList;
+        this.repeatTodoList = repeatTodoList;
+    }
+
+    @Getter
+    @JsonPropertyOrder({"iconId", "todoName"})
+    public static class TodoItem {
+        private final int iconId; // 카테고리의 아이콘 ID
+        private final String todoName;
+
+        public TodoItem(int iconId, String todoName) {
+            this.iconId = iconId;
+            this.todoName = todoName;
+        }
+    }
+
+    @Getter
+    @JsonPropertyOrder({"CalendarName", "color", "startTime", "endTime", "d-day"})
+    public static class CalendarItem {
+        @JsonProperty("CalendarName")
+        private final String calendarName;
+        private final String color;
+        private final LocalTime startTime; // 시작 시간
+        private final LocalTime endTime; // 종료 시간
+        @JsonProperty("d-day")
+        private final Character dday;
+
+        public CalendarItem(String calendarName, String color, LocalTime startTime, LocalTime endTime, Character dday) {
+            this.calendarName = calendarName;
+            this.color = color;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.dday = dday;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.sql.Time;
+import com.umc.mada.timetable.domain.Timetable;
 import com.umc.mada.timetable.domain.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -24,4 +25,9 @@ public class TimetableResponseDto {
     private String memo; // 메모
     private Boolean isDeleted; // 삭제 여부
     private DayOfWeek dayOfWeek; // 주간 시간표 요일
+
+    public static TimetableResponseDto of(Timetable timetable) {
+        return new TimetableResponseDto(timetable.getId(), timetable.getDate(), timetable.getScheduleName(), timetable.getColor(),
+                timetable.getStartTime(), timetable.getEndTime(), timetable.getMemo(), timetable.getIsDeleted(), timetable.getDayOfWeek());
+    }
 }
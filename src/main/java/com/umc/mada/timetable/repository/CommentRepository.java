@@ -2,13 +2,25 @@ package com.umc.mada.timetable.repository;
 
 import com.umc.mada.timetable.domain.Comment;
 import com.umc.mada.user.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Integer> {
     Optional<Comment> findCommentByUserIdAndDateIs(User userId, LocalDate date);
+
+    // 동기화 커서 이후 변경된 코멘트 조회 (update_at/id 키셋 페이징, before 이전에 수정된 행만)
+    @Query("select c from Comment c " +
+            "where c.userId = :user and (c.updatedAt > :updatedAt or (c.updatedAt = :updatedAt and c.id > :id)) " +
+            "and c.updatedAt < :before " +
+            "order by c.updatedAt, c.id")
+    List<Comment> findUserCommentsUpdatedAfter(@Param("user") User user, @Param("updatedAt") LocalDateTime updatedAt, @Param("id") int id, @Param("before") LocalDateTime before, Pageable pageable);
 }
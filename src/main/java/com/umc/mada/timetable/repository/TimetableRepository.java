@@ -2,11 +2,15 @@ package com.umc.mada.timetable.repository;
 
 import com.umc.mada.timetable.domain.Timetable;
 import com.umc.mada.user.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.umc.mada.timetable.domain.DayOfWeek;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,4 +22,10 @@ public interface TimetableRepository extends JpaRepository<Timetable, Integer> {
     List<Timetable> findTimetablesByUserIdAndDateIsAndDayOfWeek(User userId, LocalDate date, DayOfWeek dayOfWeek);
     List<Timetable> findTimetablesByUserIdAndDayOfWeekAndIsDeletedIsFalse(User userId, DayOfWeek dayOfWeek);
 
+    // 동기화 커서 이후 변경된 시간표 조회 (update_at/id 키셋 페이징, before 이전에 수정된 행만)
+    @Query("select t from Timetable t " +
+            "where t.userId = :user and (t.updatedAt > :updatedAt or (t.updatedAt = :updatedAt and t.id > :id)) " +
+            "and t.updatedAt < :before " +
+            "order by t.updatedAt, t.id")
+    List<Timetable> findUserTimetablesUpdatedAfter(@Param("user") User user, @Param("updatedAt") LocalDateTime updatedAt, @Param("id") int id, @Param("before") LocalDateTime before, Pageable pageable);
 }
@@ -1,13 +1,14 @@
 package com.umc.mada.timetable.service;
 
-import com.umc.mada.calendar.domain.Calendar;
-import com.umc.mada.calendar.repository.CalendarRepository;
+import com.umc.mada.calendar.dto.CalendarResponseDto;
+import com.umc.mada.calendar.service.CalendarCache;
 import com.umc.mada.category.domain.Category;
 import com.umc.mada.global.BaseResponseStatus;
 import com.umc.mada.timetable.domain.Comment;
 import com.umc.mada.timetable.domain.Timetable;
 import com.umc.mada.timetable.dto.CommentRequestDto;
 import com.umc.mada.timetable.dto.CommentResponseDto;
+import com.umc.mada.timetable.dto.ScheduleSearchResponseDto;
 import com.umc.mada.timetable.dto.TimetableRequestDto;
 import com.umc.mada.timetable.dto.TimetableResponseDto;
 import com.umc.mada.timetable.repository.CommentRepository;
@@ -18,8 +19,8 @@ import com.umc.mada.timetable.domain.DayOfWeek;
 import com.umc.mada.todo.dto.RepeatTodoResponseDto;
 import com.umc.mada.todo.repository.RepeatTodoRepository;
 import com.umc.mada.todo.repository.TodoRepository;
+import com.umc.mada.todo.service.RepeatTodoExpander;
 import com.umc.mada.user.domain.User;
-import com.umc.mada.user.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -33,20 +34,20 @@ import java.util.stream.Collectors;
 @Service
 public class TimetableService {
     private final TimetableRepository timetableRepository;
-    private final UserRepository userRepository;
     private final CommentRepository commentRepository;
     private final TodoRepository todoRepository;
-    private final CalendarRepository calendarRepository;
+    private final CalendarCache calendarCache;
     private final RepeatTodoRepository repeatTodoRepository;
+    private final RepeatTodoExpander repeatTodoExpander;
 
     @Autowired
-    public TimetableService(UserRepository userRepository, TimetableRepository timetableRepository, CommentRepository commentRepository, TodoRepository todoRepository, CalendarRepository calendarRepository, RepeatTodoRepository repeatTodoRepository) {
-        this.userRepository = userRepository;
+    public TimetableService(TimetableRepository timetableRepository, CommentRepository commentRepository, TodoRepository todoRepository, CalendarCache calendarCache, RepeatTodoRepository repeatTodoRepository, RepeatTodoExpander repeatTodoExpander) {
         this.timetableRepository = timetableRepository;
         this.commentRepository = commentRepository;
         this.todoRepository = todoRepository;
-        this.calendarRepository = calendarRepository;
+        this.calendarCache = calendarCache;
         this.repeatTodoRepository = repeatTodoRepository;
+        this.repeatTodoExpander = repeatTodoExpander;
     }
 
     // 시간표 일정 생성 로직
@@ -68,57 +69,37 @@ public class TimetableService {
     }
 
     // 시간표 추가 시, 특정 유저 일정(캘린더)과 투두 조회 로직
-    public Map<String, Object> getTodoAndCalendar (User user, LocalDate date){
+    public ScheduleSearchResponseDto getTodoAndCalendar (User user, LocalDate date){
         validateUserId(user);
         List<Todo> userTodos = todoRepository.findTodosByUserIdAndIsDeletedIsFalse(user);
-        List<RepeatTodo> repeatTodos = repeatTodoRepository.findRepeatTodosByDateIsAndIsDeletedIsFalse(date);
-        List<Calendar> calendars = calendarRepository.findAllByUser(user);
-        List<Map<String, Object>> todoList = new ArrayList<>();
+        List<RepeatTodo> repeatTodos = repeatTodoExpander.expand(todoRepository.findUserRepeatTodosBetween(user, date, date),
+                repeatTodoRepository.findUserRepeatTodoExceptions(user, date, date), date, date);
+        // 캘린더 화면과 같은 캐시에서 date에 걸치는 일정(반복 일정 회차 포함, 만료 제외)만 조회한다.
+        List<CalendarResponseDto> calendars = calendarCache.findBetween(user, date, date);
+        List<ScheduleSearchResponseDto.TodoItem> todoList = new ArrayList<>();
         for (Todo todo : userTodos) {
-            Map<String, Object> todoMap = new LinkedHashMap<>();
-            todoMap.put("iconId", todo.getCategory().getIcon().getId()); // Category의 아이콘 ID
-            todoMap.put("todoName", todo.getTodoName());
+            ScheduleSearchResponseDto.TodoItem todoItem = new ScheduleSearchResponseDto.TodoItem(todo.getCategory().getIcon().getId(), todo.getTodoName()); // Category의 아이콘 ID
             if (todo.getStartRepeatDate() != null && todo.getEndRepeatDate() != null){
                 if (!date.isBefore(todo.getStartRepeatDate()) && !date.isAfter(todo.getEndRepeatDate())){
-                    todoList.add(todoMap);
+                    todoList.add(todoItem);
                 }
             } else {
                 if (todo.getDate().equals(date)) {
-                    todoList.add(todoMap);
+                    todoList.add(todoItem);
                 }
             }
         }
-        List<Map<String, Object>> repeatTodoList = new ArrayList<>();
+        List<ScheduleSearchResponseDto.TodoItem> repeatTodoList = new ArrayList<>();
         for (RepeatTodo repeatTodo : repeatTodos){
-            Map<String, Object> repeatTodoMap = new LinkedHashMap<>();
-            if(repeatTodo.getTodoId().getUserId() == user){
-                repeatTodoMap.put("iconId", repeatTodo.getTodoId().getCategory().getIcon().getId());
-                repeatTodoMap.put("todoName", repeatTodo.getTodoId().getTodoName());
-                repeatTodoList.add(repeatTodoMap);
-            }
+            repeatTodoList.add(new ScheduleSearchResponseDto.TodoItem(repeatTodo.getTodoId().getCategory().getIcon().getId(), repeatTodo.getTodoId().getTodoName()));
         }
 
-        List<Map<String, Object>> calendarList = new ArrayList<>();
-        for (Calendar calendar : calendars) {
-            // 시작일과 종료일 사이에 date가 있는 경우만 추가
-            if (!date.isBefore(calendar.getStartDate()) && !date.isAfter(calendar.getEndDate())) {
-                Map<String, Object> calendarMap = new LinkedHashMap<>();
-                calendarMap.put("CalendarName", calendar.getCalendarName());
-                calendarMap.put("color", calendar.getColor());
-                calendarMap.put("startTime", calendar.getStartTime()); // 시작 시간
-                calendarMap.put("endTime", calendar.getEndTime());     // 종료 시간
-                calendarMap.put("d-day", calendar.getDday());
-                calendarList.add(calendarMap);
-            }
+        List<ScheduleSearchResponseDto.CalendarItem> calendarList = new ArrayList<>();
+        for (CalendarResponseDto calendar : calendars) {
+            calendarList.add(new ScheduleSearchResponseDto.CalendarItem(calendar.getCalendarName(), calendar.getColor(),
+                    calendar.getStartTime(), calendar.getEndTime(), calendar.getDday()));
         }
-        Map<String, Object> data = new LinkedHashMap<>();
-        data.put("calendarList", calendarList);
-        data.put("todoList", todoList);
-        data.put("repeatTodoList", repeatTodoList);
-
-        Map<String, Object> result = new LinkedHashMap<>();
-        result.put("data",data);
-        return data;
+        return new ScheduleSearchResponseDto(calendarList, todoList, repeatTodoList);
     }
 
     @Transactional
@@ -314,8 +295,8 @@ public class TimetableService {
 
     // 유저 ID 유효성 검사 메서드
     private void validateUserId(User userId) {
-        Optional<User> optionalUser = userRepository.findUserById(userId.getId());
-        if (optionalUser.isEmpty()) {
+        // 유저는 LoginUserArgumentResolver에서 요청당 한 번 조회되므로 다시 조회하지 않는다.
+        if (userId == null || userId.getId() == null) {
             throw new IllegalArgumentException("존재하지 않는 유저 ID입니다.");
         }
     }
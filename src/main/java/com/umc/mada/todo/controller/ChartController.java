@@ -1,14 +1,22 @@
 package com.umc.mada.todo.controller;
 
+import com.umc.mada.auth.resolver.LoginUser;
+import com.umc.mada.todo.dto.StatisticsResponseDto;
+import com.umc.mada.todo.dto.TodoStreakResponseDto;
+import com.umc.mada.todo.dto.YearlyStatisticsResponseDto;
 import com.umc.mada.todo.service.ChartService;
+import com.umc.mada.todo.service.StatisticsCache;
+import com.umc.mada.todo.service.TodoStreakTracker;
+import com.umc.mada.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 
@@ -17,19 +25,40 @@ import java.time.LocalDate;
 @RequestMapping("/chart")
 public class ChartController {
     private final ChartService chartService;
+    private final StatisticsCache statisticsCache;
+    private final TodoStreakTracker todoStreakTracker;
 
     @GetMapping("/day")
-    public ResponseEntity<?> dailyStatistics(Authentication authentication, @RequestParam(value = "date") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date){
-        return ResponseEntity.ok().body(chartService.dailyStatistics(authentication, date));
+    public ResponseEntity<StatisticsResponseDto> dailyStatistics(@LoginUser User user, @RequestParam(value = "date") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date, WebRequest webRequest){
+        return cachedResponse(statisticsCache.get(user, StatisticsCache.Period.DAY, date, () -> chartService.dailyStatistics(user, date)), webRequest);
     }
 
     @GetMapping("/week")
-    public ResponseEntity<?> weeklyStatistics(Authentication authentication, @RequestParam(value = "date") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date){
-        return ResponseEntity.ok().body(chartService.weeklyStatistics(authentication, date));
+    public ResponseEntity<StatisticsResponseDto> weeklyStatistics(@LoginUser User user, @RequestParam(value = "date") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date, WebRequest webRequest){
+        return cachedResponse(statisticsCache.get(user, StatisticsCache.Period.WEEK, date, () -> chartService.weeklyStatistics(user, date)), webRequest);
     }
 
     @GetMapping("/month")
-    public ResponseEntity<?> monthlyStatistics(Authentication authentication, @RequestParam(value = "date") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date){
-        return ResponseEntity.ok().body(chartService.monthlyStatistics(authentication, date));
+    public ResponseEntity<StatisticsResponseDto> monthlyStatistics(@LoginUser User user, @RequestParam(value = "date") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date, WebRequest webRequest){
+        return cachedResponse(statisticsCache.get(user, StatisticsCache.Period.MONTH, date, () -> chartService.monthlyStatistics(user, date)), webRequest);
+    }
+
+    @GetMapping("/year")
+    public ResponseEntity<YearlyStatisticsResponseDto> yearlyStatistics(@LoginUser User user, @RequestParam(value = "date") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date, WebRequest webRequest){
+        return cachedResponse(statisticsCache.get(user, StatisticsCache.Period.YEAR, date, () -> chartService.yearlyStatistics(user, date)), webRequest);
+    }
+
+    // 연속 완료 기록 (오늘 기준으로 계산되므로 캐시하지 않는다)
+    @GetMapping("/streak")
+    public ResponseEntity<TodoStreakResponseDto> streak(@LoginUser User user){
+        return ResponseEntity.ok(todoStreakTracker.find(user));
+    }
+
+    // If-None-Match가 같으면 304 Not Modified
+    private <T> ResponseEntity<T> cachedResponse(StatisticsCache.Cached<T> cached, WebRequest webRequest) {
+        if (webRequest.checkNotModified(cached.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(cached.getEtag()).build();
+        }
+        return ResponseEntity.ok().eTag(cached.getEtag()).body(cached.getValue());
     }
 }
@@ -1,43 +1,51 @@
 package com.umc.mada.todo.controller;
 
+import com.umc.mada.config.StreamingExecutorConfig;
+import com.umc.mada.global.DataResponse;
 import com.umc.mada.todo.domain.Todo;
 import com.umc.mada.todo.dto.RepeatTodoRequestDto;
 import com.umc.mada.todo.dto.RepeatTodoResponseDto;
 import com.umc.mada.todo.dto.TodoRequestDto;
+import com.umc.mada.todo.dto.TodoDetailResponseDto;
 import com.umc.mada.todo.dto.TodoResponseDto;
+import com.umc.mada.todo.dto.UserTodoRangeResponseDto;
+import com.umc.mada.todo.dto.UserTodoResponseDto;
 import com.umc.mada.todo.repository.TodoRepository;
+import com.umc.mada.todo.service.TodoExportService;
 import com.umc.mada.todo.service.TodoService;
+import com.umc.mada.auth.resolver.LoginUser;
 import com.umc.mada.user.domain.User;
-import com.umc.mada.user.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import javax.servlet.http.HttpServletResponse;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.zip.GZIPOutputStream;
 
 
 @RestController
 @RequestMapping("/api/home/todo")
 public class TodoController {
     private final TodoService todoService;
-    private final UserRepository userRepository;
+    private final TodoExportService todoExportService;
 
     @Autowired
-    public TodoController(TodoService todoService, UserRepository userRepository) {
+    public TodoController(TodoService todoService, TodoExportService todoExportService) {
         this.todoService = todoService;
-        this.userRepository = userRepository;
+        this.todoExportService = todoExportService;
     }
 
     @PostMapping
-    public ResponseEntity<Map<String, Object>> createTodo(Authentication authentication, @RequestBody TodoRequestDto todoRequestDto) {
+    public ResponseEntity<DataResponse<TodoDetailResponseDto>> createTodo(@LoginUser User user, @RequestBody TodoRequestDto todoRequestDto) {
         // 투두 생성 API
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
-        Map<String, Object> map = todoService.createTodo(user, todoRequestDto);
+        DataResponse<TodoDetailResponseDto> response = todoService.createTodo(user, todoRequestDto);
         //TodoResponseDto newTodo = todoService.createTodo(user, todoRequestDto);
         //Map<String, Object> data = new LinkedHashMap<>();
         //data.put("Todo", newTodo);
@@ -46,15 +54,13 @@ public class TodoController {
         //result.put("success", true);
         //result.put("message", "투두 생성이 완료되었습니다.");
         //result.put("data", data);
-        return ResponseEntity.ok().body(map);
+        return ResponseEntity.ok().body(response);
     }
 
     @PatchMapping("/update/{todoId}")
-    public ResponseEntity<Map<String, Object>> updateTodo(Authentication authentication, @PathVariable int todoId, @RequestBody TodoRequestDto todoRequestDto){
+    public ResponseEntity<DataResponse<TodoDetailResponseDto>> updateTodo(@LoginUser User user, @PathVariable int todoId, @RequestBody TodoRequestDto todoRequestDto){
         // 투두 수정 API
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
-        Map<String, Object> map = todoService.updateTodo(user, todoId, todoRequestDto);
+        DataResponse<TodoDetailResponseDto> response = todoService.updateTodo(user, todoId, todoRequestDto);
         //TodoResponseDto updatedTodo = todoService.updateTodo(user, todoId, todoRequestDto);
         //Map<String, Object> data = new LinkedHashMap<>();
         //data.put("Todo", updatedTodo);
@@ -63,14 +69,12 @@ public class TodoController {
         //result.put("success", true);
         //result.put("message", "투두 수정이 완료되었습니다.");
         //result.put("data", data);
-        return ResponseEntity.ok().body(map);
+        return ResponseEntity.ok().body(response);
     }
 
     @PatchMapping("/delete/{todoId}")
-    public ResponseEntity<Map<String, Object>> deleteTodo(Authentication authentication, @PathVariable int todoId) {
+    public ResponseEntity<Map<String, Object>> deleteTodo(@LoginUser User user, @PathVariable int todoId) {
         // 투두 삭제 API
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
         todoService.deleteTodo(user, todoId);
         Map<String, Object> result = new LinkedHashMap<>();
         //result.put("status", 200);
@@ -80,10 +84,8 @@ public class TodoController {
     }
 
     @PatchMapping("/repeat/update/{repeatTodoId}")
-    public ResponseEntity<Map<String, Object>> updateRepeatTodo(Authentication authentication, @PathVariable int repeatTodoId, @RequestBody RepeatTodoRequestDto repeatTodoRequestDto) {
+    public ResponseEntity<Map<String, Object>> updateRepeatTodo(@LoginUser User user, @PathVariable int repeatTodoId, @RequestBody RepeatTodoRequestDto repeatTodoRequestDto) {
         // 반복 투두 수정 API
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
         RepeatTodoResponseDto updatedRepeatTodo = todoService.updateRepeatTodo(user, repeatTodoId, repeatTodoRequestDto);
         Map<String, Object> data = new LinkedHashMap<>();
         data.put("RepeatTodo", updatedRepeatTodo);
@@ -95,33 +97,56 @@ public class TodoController {
         return ResponseEntity.ok().body(result);
     }
 
+    @PatchMapping("/repeat/update/{todoId}/date/{date}")
+    public ResponseEntity<Map<String, Object>> updateRepeatTodoByDate(@LoginUser User user, @PathVariable int todoId, @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date, @RequestBody RepeatTodoRequestDto repeatTodoRequestDto) {
+        // 반복 투두 수정 API (투두 ID, 회차 날짜 기준)
+        RepeatTodoResponseDto updatedRepeatTodo = todoService.updateRepeatTodo(user, todoId, date, repeatTodoRequestDto);
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("RepeatTodo", updatedRepeatTodo);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("data", data);
+        return ResponseEntity.ok().body(result);
+    }
+
     @PatchMapping("/repeat/delete/{repeatTodoId}")
-    public ResponseEntity<Map<String, Object>> deleteRepeatTodo(Authentication authentication, @PathVariable int repeatTodoId) {
+    public ResponseEntity<Map<String, Object>> deleteRepeatTodo(@LoginUser User user, @PathVariable int repeatTodoId) {
         // 반복 투두 삭제 API (이 반복 투두)
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
         todoService.deleteRepeatTodo(user, repeatTodoId);
         Map<String, Object> result = new LinkedHashMap<>();
         result.put("message", "반복 투두 삭제가 완료되었습니다.");
         return ResponseEntity.ok().body(result);
     }
 
+    @PatchMapping("/repeat/delete/{todoId}/date/{date}")
+    public ResponseEntity<Map<String, Object>> deleteRepeatTodoByDate(@LoginUser User user, @PathVariable int todoId, @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date) {
+        // 반복 투두 삭제 API (이 반복 투두, 투두 ID와 회차 날짜 기준)
+        todoService.deleteRepeatTodo(user, todoId, date);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("message", "반복 투두 삭제가 완료되었습니다.");
+        return ResponseEntity.ok().body(result);
+    }
+
     @PatchMapping("/repeat/delete-all-future/{repeatTodoId}")
-    public ResponseEntity<Map<String, Object>> deleteRepeatTodoAndFuture(Authentication authentication, @PathVariable int repeatTodoId) {
+    public ResponseEntity<Map<String, Object>> deleteRepeatTodoAndFuture(@LoginUser User user, @PathVariable int repeatTodoId) {
         // 반복 투두 삭제 API (이 반복 투두 및 향후 반복 투두)
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
         todoService.deleteRepeatTodoAndFuture(user, repeatTodoId);
         Map<String, Object> result = new LinkedHashMap<>();
         result.put("message", "해당 반복 투두 및 향후 반복 투두 삭제가 완료되었습니다.");
         return ResponseEntity.ok().body(result);
     }
 
+    @PatchMapping("/repeat/delete-all-future/{todoId}/date/{date}")
+    public ResponseEntity<Map<String, Object>> deleteRepeatTodoAndFutureByDate(@LoginUser User user, @PathVariable int todoId, @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date) {
+        // 반복 투두 삭제 API (이 반복 투두 및 향후 반복 투두, 투두 ID와 회차 날짜 기준)
+        todoService.deleteRepeatTodoAndFuture(user, todoId, date);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("message", "해당 반복 투두 및 향후 반복 투두 삭제가 완료되었습니다.");
+        return ResponseEntity.ok().body(result);
+    }
+
     @PatchMapping("/repeat/delete-all/{repeatTodoId}")
-    public ResponseEntity<Map<String, Object>> deleteAllRepeatTodos(Authentication authentication, @PathVariable int repeatTodoId) {
+    public ResponseEntity<Map<String, Object>> deleteAllRepeatTodos(@LoginUser User user, @PathVariable int repeatTodoId) {
         // 반복 투두 삭제 API (모든 반복 투두)
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
         todoService.deleteAllRepeatTodos(user, repeatTodoId);
         Map<String, Object> result = new LinkedHashMap<>();
         result.put("message", "모든 반복 투두 삭제가 완료되었습니다.");
@@ -130,10 +155,8 @@ public class TodoController {
 
     @GetMapping("/date/{date}")
         // 특정 유저 투두 조회 API
-    public ResponseEntity<Map<String, Object>> getUserTodo(Authentication authentication, @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date){
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
-        Map<String, Object> map = todoService.getUserTodo(user, date);
+    public ResponseEntity<DataResponse<UserTodoResponseDto>> getUserTodo(@LoginUser User user, @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date){
+        DataResponse<UserTodoResponseDto> response = todoService.getUserTodo(user, date);
         //List<TodoResponseDto> userTodos = todoService.getUserTodo(user, date);
         //Map<String, Object> data = new LinkedHashMap<>();
         //data.put("nickname", user.getNickname());
@@ -142,14 +165,21 @@ public class TodoController {
         //result.put("success", true);
         //result.put("message", "투두가 정상적으로 조회되었습니다.");
         //result.put("data", data);
-        return ResponseEntity.ok().body(map);
+        return ResponseEntity.ok().body(response);
+    }
+
+    @GetMapping("/range")
+        // 특정 유저 기간 투두 조회 API (주간, 월간 화면)
+    public ResponseEntity<DataResponse<UserTodoRangeResponseDto>> getUserTodoRange(@LoginUser User user,
+                                                                @RequestParam("from") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+                                                                @RequestParam("to") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate to){
+        DataResponse<UserTodoRangeResponseDto> response = todoService.getUserTodoRange(user, from, to);
+        return ResponseEntity.ok().body(response);
     }
 
     @GetMapping("/repeat/all")
         // 반복 투두 조회 API
-    public ResponseEntity<Map<String, Object>> getUserRepeatTodo(Authentication authentication){
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
+    public ResponseEntity<Map<String, Object>> getUserRepeatTodo(@LoginUser User user){
         List<TodoResponseDto> repeatTodos = todoService.getUserRepeatTodo(user);
         Map<String, Object> data = new LinkedHashMap<>();
         data.put("RepeatTodoList", repeatTodos);
@@ -157,4 +187,26 @@ public class TodoController {
         result.put("data", data);
         return ResponseEntity.ok().body(result);
     }
+
+    @GetMapping("/export")
+        // 투두 기록 내보내기 API (format: csv, ndjson / gzip 압축 선택)
+    public WebAsyncTask<Void> exportUserTodo(@LoginUser User user, HttpServletResponse response,
+                                             @RequestParam(value = "format", defaultValue = "csv") String format,
+                                             @RequestParam(value = "gzip", defaultValue = "false") boolean gzip){
+        TodoExportService.Format exportFormat = TodoExportService.Format.valueOf(format.toUpperCase());
+        String fileName = "todos." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        response.setContentType(gzip ? "application/gzip" : exportFormat.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+        return new WebAsyncTask<>(StreamingExecutorConfig.STREAMING_TIMEOUT_MILLIS, "streamingExecutor", () -> {
+            if (gzip) {
+                GZIPOutputStream gzipOutputStream = new GZIPOutputStream(response.getOutputStream());
+                todoExportService.export(user, exportFormat, gzipOutputStream);
+                gzipOutputStream.finish();
+            } else {
+                todoExportService.export(user, exportFormat, response.getOutputStream());
+            }
+            response.flushBuffer();
+            return null;
+        });
+    }
 }
@@ -0,0 +1,150 @@
+package com.umc.mada.todo.domain;
+
+import com.umc.mada.todo.repository.statistics.AchievementRateStatisticsVO;
+import com.umc.mada.todo.repository.statistics.MonthlyBarGraphAndRateStatisticsVO;
+import com.umc.mada.todo.repository.statistics.TodoBarGraphStatisticsVO;
+import com.umc.mada.todo.repository.statistics.WeeklyBarGraphAndRateStatisticsVO;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.time.temporal.WeekFields;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 기간 내 날짜별 [전체 투두 수, 완료한 투두 수] (일반 투두와 반복 투두 회차 합산)
+ * 일별 통계를 한 번 읽어 만들고, 일, 주, 월 단위 지표는 모두 여기서 계산한다.
+ * 목록은 최신 기간부터 빈 기간 없이 채워서 반환한다. (index 0이 이번 기간, 1이 이전 기간)
+ */
+public class DailySeries {
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final int[] EMPTY = new int[2];
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Map<LocalDate, int[]> counts;
+
+    public DailySeries(LocalDate startDate, LocalDate endDate, Map<LocalDate, int[]> counts) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.counts = counts;
+    }
+
+    // 기간 [from, to] 전체 투두 수
+    public int totalCount(LocalDate from, LocalDate to) {
+        return sum(from, to)[0];
+    }
+
+    // 기간 [from, to] 완료한 투두 수
+    public int completedCount(LocalDate from, LocalDate to) {
+        return sum(from, to)[1];
+    }
+
+    // 기간 [from, to] 중 투두가 하나라도 있는 날 수
+    public int createdDays(LocalDate from, LocalDate to) {
+        int days = 0;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (count(date)[0] > 0) {
+                days++;
+            }
+        }
+        return days;
+    }
+
+    // 일별 완료 수 (to부터 from까지)
+    public List<TodoBarGraphStatisticsVO> days(LocalDate from, LocalDate to) {
+        List<TodoBarGraphStatisticsVO> result = new ArrayList<>();
+        for (LocalDate date = to; !date.isBefore(from); date = date.minusDays(1)) {
+            result.add(new TodoBarGraphStatisticsVO(date, count(date)[1]));
+        }
+        return result;
+    }
+
+    // 일별 완료 수, 달성률 (to부터 from까지)
+    public List<AchievementRateStatisticsVO> dailyRates(LocalDate from, LocalDate to) {
+        List<AchievementRateStatisticsVO> result = new ArrayList<>();
+        for (LocalDate date = to; !date.isBefore(from); date = date.minusDays(1)) {
+            int[] count = count(date);
+            result.add(new AchievementRateStatisticsVO(date, count[1], rate(count)));
+        }
+        return result;
+    }
+
+    // 주별 완료 수, 달성률 (weekStart 요일로 시작하는 주 단위)
+    public List<WeeklyBarGraphAndRateStatisticsVO> weeks(LocalDate from, LocalDate to, DayOfWeek weekStart) {
+        LocalDate firstWeek = from.with(TemporalAdjusters.previousOrSame(weekStart));
+        LocalDate lastWeek = to.with(TemporalAdjusters.previousOrSame(weekStart));
+        WeekFields weekFields = weekStart == DayOfWeek.MONDAY ? WeekFields.ISO : WeekFields.of(weekStart, 1);
+
+        List<WeeklyBarGraphAndRateStatisticsVO> result = new ArrayList<>();
+        for (LocalDate week = lastWeek; !week.isBefore(firstWeek); week = week.minusWeeks(1)) {
+            int[] count = sum(week, week.plusDays(6));
+            String weekDate = String.format("%d%02d", week.get(weekFields.weekBasedYear()), week.get(weekFields.weekOfWeekBasedYear()));
+            result.add(new WeeklyBarGraphAndRateStatisticsVO(week, week.plusDays(6), weekDate, count[1], rate(count)));
+        }
+        return result;
+    }
+
+    // 월별 완료 수, 달성률
+    public List<MonthlyBarGraphAndRateStatisticsVO> months(LocalDate from, LocalDate to) {
+        YearMonth firstMonth = YearMonth.from(from);
+        YearMonth lastMonth = YearMonth.from(to);
+
+        List<MonthlyBarGraphAndRateStatisticsVO> result = new ArrayList<>();
+        for (YearMonth month = lastMonth; !month.isBefore(firstMonth); month = month.minusMonths(1)) {
+            int[] count = sum(month.atDay(1), month.atEndOfMonth());
+            result.add(new MonthlyBarGraphAndRateStatisticsVO(month.format(MONTH_FORMAT), count[1], rate(count)));
+        }
+        return result;
+    }
+
+    // 일별 완료 수 배열 (index 0이 from)
+    public int[] completedArray(LocalDate from, LocalDate to) {
+        int[] result = new int[(int) ChronoUnit.DAYS.between(from, to) + 1];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = count(from.plusDays(i))[1];
+        }
+        return result;
+    }
+
+    // 일별 달성률 배열 (%, 반올림 / index 0이 from)
+    public int[] rateArray(LocalDate from, LocalDate to) {
+        int[] result = new int[(int) ChronoUnit.DAYS.between(from, to) + 1];
+        for (int i = 0; i < result.length; i++) {
+            int[] count = count(from.plusDays(i));
+            result[i] = count[0] > 0 ? Math.round(count[1] * 100f / count[0]) : 0;
+        }
+        return result;
+    }
+
+    private int[] count(LocalDate date) {
+        if (date.isBefore(startDate) || date.isAfter(endDate)) {
+            throw new IllegalArgumentException("조회하지 않은 날짜입니다. (" + date + ")");
+        }
+        return counts.getOrDefault(date, EMPTY);
+    }
+
+    private int[] sum(LocalDate from, LocalDate to) {
+        int[] sum = new int[2];
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            int[] count = count(date);
+            sum[0] += count[0];
+            sum[1] += count[1];
+        }
+        return sum;
+    }
+
+    // 완료율 (소수점 첫째 자리 반올림, 투두가 없으면 0)
+    private static float rate(int[] count) {
+        if (count[0] <= 0) {
+            return 0;
+        }
+        return Math.round(count[1] * 1000f / count[0]) / 10f;
+    }
+}
@@ -13,7 +13,11 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Builder
-@Table(name = "REPEAT_TODO")
+@Table(name = "REPEAT_TODO", indexes = {
+        @Index(name = "idx_repeat_todo_date", columnList = "date, is_deleted, todo_id"),
+        @Index(name = "idx_repeat_todo_todo_date", columnList = "todo_id, date"),
+        @Index(name = "idx_repeat_todo_update", columnList = "update_at, id")
+})
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @AllArgsConstructor
 @NoArgsConstructor
@@ -26,8 +30,8 @@ public class RepeatTodo {
     @ManyToOne
     private Todo todoId;
 
-    @Column(name = "date", nullable = false)
-    private LocalDate date;
+    @Column(name = "date")
+    private LocalDate date; // 반복 설정 변경으로 분리된 예외 행은 null
 
     @Column(name = "complete", nullable = false)
     private Boolean complete;
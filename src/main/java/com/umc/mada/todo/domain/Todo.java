@@ -17,7 +17,10 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Builder
-@Table(name = "TODO")
+@Table(name = "TODO", indexes = {
+        @Index(name = "idx_todo_user_date", columnList = "user_id, date, is_deleted"),
+        @Index(name = "idx_todo_user_update", columnList = "user_id, update_at, id")
+})
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @AllArgsConstructor
 @NoArgsConstructor
@@ -0,0 +1,47 @@
+package com.umc.mada.todo.domain;
+
+import com.umc.mada.category.domain.Category;
+import com.umc.mada.user.domain.User;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 투두 일별 통계 (유저, 날짜, 카테고리별 전체/완료 투두 수)
+ * 투두와 반복 투두 회차가 생성, 완료, 이동, 삭제될 때 TodoStatisticsRecorder에서 증감한다.
+ */
+@Entity
+@Getter
+@Table(name = "TODO_DAILY_STATISTICS", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_todo_daily_statistics", columnNames = {"user_id", "date", "category_id"})
+})
+@NoArgsConstructor
+public class TodoDailyStatistics {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", referencedColumnName = "id", nullable = false)
+    private User userId; // 유저 ID
+
+    @Column(name = "date", nullable = false)
+    private LocalDate date; // 투두 일자
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", referencedColumnName = "id", nullable = false)
+    private Category category; // 카테고리 ID
+
+    @Column(name = "total_count", nullable = false)
+    private int totalCount; // 전체 투두 수 (반복 투두 회차 포함)
+
+    @Column(name = "completed_count", nullable = false)
+    private int completedCount; // 완료한 투두 수
+
+    @UpdateTimestamp
+    @Column(name = "update_at")
+    private LocalDateTime updatedAt; // 수정 시간
+}
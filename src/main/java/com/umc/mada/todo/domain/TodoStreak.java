@@ -0,0 +1,109 @@
+package com.umc.mada.todo.domain;
+
+import com.umc.mada.user.domain.User;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 유저별 투두 연속 완료 기록 (완료한 투두가 하나 이상 있는 날이 이어진 구간)
+ * 가장 최근 구간과 가장 긴 구간을 저장하고, 현재 연속 일수는 조회 시점 기준으로 계산한다.
+ * 미리 완료한 미래 날짜(내일 투두, 이후 반복 회차 등)는 구간에 넣지 않는다.
+ */
+@Entity
+@Getter
+@Table(name = "TODO_STREAK", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_todo_streak", columnNames = {"user_id"})
+})
+@NoArgsConstructor
+public class TodoStreak {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", referencedColumnName = "id", nullable = false)
+    private User userId; // 유저 ID
+
+    @Column(name = "latest_start")
+    private LocalDate latestStart; // 가장 최근 구간 시작일
+
+    @Column(name = "latest_end")
+    private LocalDate latestEnd; // 가장 최근 구간 종료일
+
+    @Column(name = "longest_start")
+    private LocalDate longestStart; // 가장 긴 구간 시작일
+
+    @Column(name = "longest_end")
+    private LocalDate longestEnd; // 가장 긴 구간 종료일
+
+    @UpdateTimestamp
+    @Column(name = "update_at")
+    private LocalDateTime updatedAt; // 수정 시간
+
+    public TodoStreak(User userId) {
+        this.userId = userId;
+    }
+
+    // 오늘 또는 어제까지 이어진 구간이면 오늘까지의 일수, 끊겼으면 0
+    public int getCurrentStreak(LocalDate today) {
+        if (latestEnd == null || latestEnd.isBefore(today.minusDays(1)) || latestStart.isAfter(today)) {
+            return 0;
+        }
+        return length(latestStart, latestEnd.isAfter(today) ? today : latestEnd);
+    }
+
+    public int getLongestStreak() {
+        return longestEnd == null ? 0 : length(longestStart, longestEnd);
+    }
+
+    // 완료한 날짜 목록(오름차순)으로 다시 계산 (today 이후 날짜는 무시)
+    public void rebuild(List<LocalDate> completedDates, LocalDate today) {
+        updateLatest(null, null);
+        updateLongest(null, null);
+        LocalDate start = null;
+        LocalDate previous = null;
+        for (LocalDate date : completedDates) {
+            if (date.isAfter(today)) {
+                break;
+            }
+            if (previous == null || !date.equals(previous.plusDays(1))) {
+                start = date;
+            }
+            if (length(start, date) > getLongestStreak()) {
+                updateLongest(start, date);
+            }
+            previous = date;
+        }
+        if (previous != null) {
+            updateLatest(start, previous);
+        }
+    }
+
+    public void updateLatest(LocalDate start, LocalDate end) {
+        this.latestStart = start;
+        this.latestEnd = end;
+    }
+
+    public void updateLongest(LocalDate start, LocalDate end) {
+        this.longestStart = start;
+        this.longestEnd = end;
+    }
+
+    public boolean isLatest(LocalDate date) {
+        return latestEnd != null && !date.isBefore(latestStart) && !date.isAfter(latestEnd);
+    }
+
+    public boolean isLongest(LocalDate date) {
+        return longestEnd != null && !date.isBefore(longestStart) && !date.isAfter(longestEnd);
+    }
+
+    private static int length(LocalDate start, LocalDate end) {
+        return (int) ChronoUnit.DAYS.between(start, end) + 1;
+    }
+}
@@ -1,5 +1,6 @@
 package com.umc.mada.todo.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -9,6 +10,8 @@ public class CategoryStatisticsDto {
     private final String categoryName;
     private final String color;
     private final Float rate;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer diff; //이전 기간보다 더 완료한 수 (통계 화면만)
 
     public static CategoryStatisticsDto of(String categoryName, String color, Float rate){
         return CategoryStatisticsDto.builder()
@@ -17,4 +20,13 @@ public class CategoryStatisticsDto {
                 .rate(rate)
                 .build();
     }
+
+    public static CategoryStatisticsDto of(String categoryName, String color, Float rate, int diff){
+        return CategoryStatisticsDto.builder()
+                .categoryName(categoryName)
+                .color(color)
+                .rate(rate)
+                .diff(diff)
+                .build();
+    }
 }
@@ -16,15 +16,17 @@ public class RepeatTodoResponseDto {
     private String repeatTodoName;
     private LocalDate date;
     private Boolean complete;
+    private Boolean isDeleted; // 반복 투두 삭제 여부
 
     @Builder
-    public RepeatTodoResponseDto(int id, int todoId, int categoryId, String repeatTodoName, LocalDate date, Boolean complete){
+    public RepeatTodoResponseDto(int id, int todoId, int categoryId, String repeatTodoName, LocalDate date, Boolean complete, Boolean isDeleted){
         this.id = id;
         this.todoId = todoId;
         this.categoryId = categoryId;
         this.repeatTodoName = repeatTodoName;
         this.date = date;
         this.complete = complete;
+        this.isDeleted = isDeleted;
     }
 
     public static RepeatTodoResponseDto of(RepeatTodo repeatTodo) {
@@ -35,6 +37,7 @@ public class RepeatTodoResponseDto {
                 .repeatTodoName(repeatTodo.getTodoId().getTodoName())
                 .date(repeatTodo.getDate())
                 .complete(repeatTodo.getComplete())
+                .isDeleted(repeatTodo.getIsDeleted())
                 .build();
     }
 }
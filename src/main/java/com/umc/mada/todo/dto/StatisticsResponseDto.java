@@ -34,14 +34,10 @@ public class StatisticsResponseDto {
     @JsonInclude(JsonInclude.Include.NON_DEFAULT)
     private final float diffCountC; //오늘, 이번주, 이번달에 어제, 저번주, 저번달보다 얼마나 더 많이 했는지
 
-    public static StatisticsResponseDto ofDay(List<CategoryStatisticsVO> categoryStatisticsVOList, PreviousCategoryStatisticsVO previousCategoryStatisticsVO,
+    public static StatisticsResponseDto ofDay(List<CategoryStatisticsVO> categoryStatisticsVOList,
                                            List<TodoBarGraphStatisticsVO> todoBarGraphStatisticsVOList, int totalCount, List<AchievementRateStatisticsVO> achievementRateStatisticsVOList){
         //각 list의 index 0은 오늘, 1은 어제이다.
-        return StatisticsResponseDto.builder()
-                .categoryStatistics(categoryStatisticsVOList.stream().map(vo -> CategoryStatisticsDto.of(vo.getCategoryName(), vo.getColor(), vo.getRate())).collect(Collectors.toList()))
-                .mostCategory(categoryStatisticsVOList.get(0).getCategoryName())
-                .nowCategoryCount(categoryStatisticsVOList.get(0).getCount())
-                .beforeCategoryCount(previousCategoryStatisticsVO.getCount())
+        return category(StatisticsResponseDto.builder(), categoryStatisticsVOList)
                 .todoStatistics(todoBarGraphStatisticsVOList.stream().map(vo -> TodoStatisticsDto.of(vo.getTodoDate(), vo.getCount())).collect(Collectors.toList()))
                 .nowTotalCount(totalCount)
                 .nowCountCompleted(todoBarGraphStatisticsVOList.get(0).getCount())
@@ -53,14 +49,10 @@ public class StatisticsResponseDto {
                 .build();
     }
 
-    public static StatisticsResponseDto ofWeek(List<CategoryStatisticsVO> categoryStatisticsVOList, int totalCount,  PreviousCategoryStatisticsVO previousCategoryStatisticsVO,
+    public static StatisticsResponseDto ofWeek(List<CategoryStatisticsVO> categoryStatisticsVOList, int totalCount,
                                                List<WeeklyBarGraphAndRateStatisticsVO> weeklyBarGraphAndRateStatisticsVOList){
-        return StatisticsResponseDto.builder()
-                .categoryStatistics(categoryStatisticsVOList.stream().map(vo -> CategoryStatisticsDto.of(vo.getCategoryName(), vo.getColor(), vo.getRate())).collect(Collectors.toList()))
+        return category(StatisticsResponseDto.builder(), categoryStatisticsVOList)
                 .totalTodo(totalCount)
-                .mostCategory(categoryStatisticsVOList.get(0).getCategoryName())
-                .nowCategoryCount(categoryStatisticsVOList.get(0).getCount())
-                .beforeCategoryCount(previousCategoryStatisticsVO.getCount())
                 .todoStatistics(weeklyBarGraphAndRateStatisticsVOList.stream().map(vo -> TodoStatisticsDto.of(vo.getStartDate(), vo.getEndDate(), vo.getCount())).collect(Collectors.toList()))
                 .nowTotalCount(totalCount)
                 .ratio(weeklyBarGraphAndRateStatisticsVOList.get(0).getRate())
@@ -73,14 +65,9 @@ public class StatisticsResponseDto {
                 .build();
     }
 
-    public static StatisticsResponseDto ofMonth(List<CategoryStatisticsVO> categoryStatisticsVOList, int totalCount,  PreviousCategoryStatisticsVO previousCategoryStatisticsVO,
+    public static StatisticsResponseDto ofMonth(List<CategoryStatisticsVO> categoryStatisticsVOList, int totalCount,
                                                 List<MonthlyBarGraphAndRateStatisticsVO> monthlyBarGraphAndRateStatisticsVOList){
-        return StatisticsResponseDto.builder()
-                .categoryStatistics(categoryStatisticsVOList.stream().map(vo -> CategoryStatisticsDto.of(vo.getCategoryName(), vo.getColor(), vo.getRate())).collect(Collectors.toList()))
-                .mostCategory(categoryStatisticsVOList.get(0).getCategoryName())
-                .nowCategoryCount(categoryStatisticsVOList.get(0).getCount())
-                .beforeCategoryCount(previousCategoryStatisticsVO.getCount())
-                .diffCountA(categoryStatisticsVOList.get(0).getCount() - previousCategoryStatisticsVO.getCount())
+        return category(StatisticsResponseDto.builder(), categoryStatisticsVOList)
                 .todoStatistics(monthlyBarGraphAndRateStatisticsVOList.stream().map(vo -> TodoStatisticsDto.of(vo.getMonthDate(), vo.getCount())).collect(Collectors.toList()))
                 .nowTotalCount(totalCount)
                 .ratio(monthlyBarGraphAndRateStatisticsVOList.get(0).getRate())
@@ -90,4 +77,18 @@ public class StatisticsResponseDto {
                 .nowAchievementRate(monthlyBarGraphAndRateStatisticsVOList.get(0).getRate() - monthlyBarGraphAndRateStatisticsVOList.get(1).getRate())
                 .build();
     }
+
+    // 카테고리 비교 (이번 기간에 완료한 투두가 없으면 목록이 비어 있으므로 가장 많이 완료한 카테고리는 null, 수는 0)
+    private static StatisticsResponseDtoBuilder category(StatisticsResponseDtoBuilder builder, List<CategoryStatisticsVO> categoryStatisticsVOList){
+        builder.categoryStatistics(categoryStatisticsVOList.stream().map(vo -> CategoryStatisticsDto.of(vo.getCategoryName(), vo.getColor(), vo.getRate(), vo.getDiff())).collect(Collectors.toList()));
+        if (categoryStatisticsVOList.isEmpty()) {
+            return builder;
+        }
+        CategoryStatisticsVO most = categoryStatisticsVOList.get(0);
+        return builder
+                .mostCategory(most.getCategoryName())
+                .nowCategoryCount(most.getCount())
+                .beforeCategoryCount(most.getPreviousCount())
+                .diffCountA(most.getDiff());
+    }
 }
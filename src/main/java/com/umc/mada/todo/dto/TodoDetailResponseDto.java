@@ -0,0 +1,22 @@
+package com.umc.mada.todo.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 투두 생성, 수정 응답 (투두와 반복 회차 목록)
+@Getter
+@JsonPropertyOrder({"Todo", "RepeatTodos"})
+public class TodoDetailResponseDto {
+    @JsonProperty("Todo")
+    private final TodoResponseDto todo;
+    @JsonProperty("RepeatTodos")
+    private final List<RepeatTodoResponseDto> repeatTodos;
+
+    public TodoDetailResponseDto(TodoResponseDto todo, List<RepeatTodoResponseDto> repeatTodos) {
+        this.todo = todo;
+        this.repeatTodos = repeatTodos;
+    }
+}
@@ -1,6 +1,6 @@
 package com.umc.mada.todo.dto;
 
-import com.umc.mada.todo.repository.CategoryStatisticsVO;
+import com.umc.mada.todo.repository.statistics.CategoryStatisticsVO;
 import lombok.Builder;
 import lombok.Getter;
 
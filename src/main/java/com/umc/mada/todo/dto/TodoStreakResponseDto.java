@@ -0,0 +1,18 @@
+package com.umc.mada.todo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class TodoStreakResponseDto {
+    private final int currentStreak; //오늘(또는 어제)까지 연속으로 투두를 완료한 일수
+    private final int longestStreak; //가장 길게 연속으로 투두를 완료한 일수
+
+    public static TodoStreakResponseDto of(int currentStreak, int longestStreak){
+        return TodoStreakResponseDto.builder()
+                .currentStreak(currentStreak)
+                .longestStreak(longestStreak)
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.umc.mada.todo.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 기간 유저 투두 조회 응답 (날짜별로 묶음)
+@Getter
+@JsonPropertyOrder({"nickname", "Days"})
+public class UserTodoRangeResponseDto {
+    private final String nickname;
+    @JsonProperty("Days")
+    private final List<DayTodo> days;
+
+    public UserTodoRangeResponseDto(String nickname, List<DayTodo> days) {
+        this.nickname = nickname;
+        this.days = days;
+    }
+
+    @Getter
+    @JsonPropertyOrder({"date", "TodoList", "RepeatTodoList"})
+    public static class DayTodo {
+        private final LocalDate date;
+        @JsonProperty("TodoList")
+        private final List<TodoResponseDto> todoList;
+        @JsonProperty("RepeatTodoList")
+        private final List<RepeatTodoResponseDto> repeatTodoList;
+
+        public DayTodo(LocalDate date, List<TodoResponseDto> todoList, List<RepeatTodoResponseDto> repeatTodoList) {
+            this.date = date;
+            this.todoList = todoList;
+            this.repeatTodoList = repeatTodoList;
+        }
+    }
+}
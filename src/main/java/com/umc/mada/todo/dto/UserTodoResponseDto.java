@@ -0,0 +1,24 @@
+package com.umc.mada.todo.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 특정 날짜 유저 투두 조회 응답
+@Getter
+@JsonPropertyOrder({"nickname", "TodoList", "RepeatTodoList"})
+public class UserTodoResponseDto {
+    private final String nickname;
+    @JsonProperty("TodoList")
+    private final List<TodoResponseDto> todoList;
+    @JsonProperty("RepeatTodoList")
+    private final List<RepeatTodoResponseDto> repeatTodoList;
+
+    public UserTodoResponseDto(String nickname, List<TodoResponseDto> todoList, List<RepeatTodoResponseDto> repeatTodoList) {
+        this.nickname = nickname;
+        this.todoList = todoList;
+        this.repeatTodoList = repeatTodoList;
+    }
+}
@@ -0,0 +1,27 @@
+package com.umc.mada.todo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 1년 완료 히트맵 (startDate부터 하루씩, index 0이 startDate)
+ */
+@Builder
+@Getter
+public class YearlyStatisticsResponseDto {
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final int[] countCompleted; //날짜별 완료한 투두 수
+    private final int[] rate; //날짜별 달성률 (%, 투두가 없는 날은 0)
+
+    public static YearlyStatisticsResponseDto of(LocalDate startDate, LocalDate endDate, int[] countCompleted, int[] rate){
+        return YearlyStatisticsResponseDto.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .countCompleted(countCompleted)
+                .rate(rate)
+                .build();
+    }
+}
@@ -1,7 +0,0 @@
-package com.umc.mada.todo.repository;
-
-public interface CategoryStatisticsVO {
-    String getCategoryName();
-    String getColor();
-    Float getRate();
-}
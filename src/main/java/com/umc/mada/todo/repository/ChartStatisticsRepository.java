@@ -0,0 +1,85 @@
+package com.umc.mada.todo.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.umc.mada.category.domain.QCategory;
+import com.umc.mada.todo.domain.DailySeries;
+import com.umc.mada.todo.domain.QTodoDailyStatistics;
+import com.umc.mada.todo.repository.statistics.CategoryStatisticsVO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 통계 조회 (QueryDSL, 일별 통계 TODO_DAILY_STATISTICS 합산)
+ * 날짜별 합계는 DailySeries로 만들어 StatisticsEngine에서 일, 주, 월 단위로 계산한다.
+ * 카테고리 통계는 이번 기간과 바로 앞 기간을 한 번에 읽어 카테고리별로 비교한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChartStatisticsRepository {
+    private final JPAQueryFactory queryFactory;
+
+    // 카테고리별 이번 기간 [currentStart, currentEnd], 이전 기간 [previousStart, currentStart) 완료 수 (이번 기간 완료 수 내림차순)
+    public List<CategoryStatisticsVO> categoryComparison(Long uid, LocalDate previousStart, LocalDate currentStart, LocalDate currentEnd) {
+        QTodoDailyStatistics statistics = QTodoDailyStatistics.todoDailyStatistics;
+        QCategory category = QCategory.category;
+        NumberExpression<Long> count = Expressions.numberTemplate(Long.class, "sum({0})",
+                new CaseBuilder().when(statistics.date.goe(currentStart)).then(statistics.completedCount).otherwise(0));
+        NumberExpression<Long> previousCount = Expressions.numberTemplate(Long.class, "sum({0})",
+                new CaseBuilder().when(statistics.date.lt(currentStart)).then(statistics.completedCount).otherwise(0));
+
+        List<Tuple> rows = queryFactory
+                .select(category.id, category.categoryName, category.color, count, previousCount)
+                .from(statistics)
+                .join(statistics.category, category)
+                .where(statistics.userId.id.eq(uid),
+                        statistics.date.between(previousStart, currentEnd))
+                .groupBy(category.id, category.categoryName, category.color)
+                .fetch();
+
+        long completed = rows.stream().mapToLong(row -> row.get(count)).sum();
+        List<CategoryStatisticsVO> result = new ArrayList<>();
+        for (Tuple row : rows) {
+            int current = row.get(count).intValue();
+            if (current <= 0) {
+                continue; // 이번 기간에 완료한 투두가 없는 카테고리는 제외
+            }
+            result.add(new CategoryStatisticsVO(row.get(category.id), row.get(category.categoryName), row.get(category.color),
+                    current, row.get(previousCount).intValue(), Math.round(current * 100f / completed)));
+        }
+        result.sort(Comparator.comparing(CategoryStatisticsVO::getCount).reversed().thenComparing(CategoryStatisticsVO::getCategoryId));
+        return result;
+    }
+
+    // 기간 내 날짜별 [전체 투두 수, 완료한 투두 수] (쿼리 한 번, 카테고리 합산)
+    public DailySeries findDailySeries(Long uid, LocalDate startDate, LocalDate endDate) {
+        QTodoDailyStatistics statistics = QTodoDailyStatistics.todoDailyStatistics;
+        // SUM(int)은 Hibernate에서 Long으로 반환되므로 Long 타입으로 받는다.
+        NumberExpression<Long> totalCount = Expressions.numberTemplate(Long.class, "sum({0})", statistics.totalCount);
+        NumberExpression<Long> completedCount = Expressions.numberTemplate(Long.class, "sum({0})", statistics.completedCount);
+
+        List<Tuple> rows = queryFactory
+                .select(statistics.date, totalCount, completedCount)
+                .from(statistics)
+                .where(statistics.userId.id.eq(uid),
+                        statistics.date.between(startDate, endDate))
+                .groupBy(statistics.date)
+                .fetch();
+
+        Map<LocalDate, int[]> daily = new TreeMap<>();
+        for (Tuple row : rows) {
+            daily.put(row.get(statistics.date), new int[]{row.get(totalCount).intValue(), row.get(completedCount).intValue()});
+        }
+        return new DailySeries(startDate, endDate, daily);
+    }
+}
@@ -5,18 +5,64 @@ import com.umc.mada.todo.domain.Todo;
 import com.umc.mada.todo.dto.RepeatTodoResponseDto;
 import com.umc.mada.user.domain.User;
 import net.bytebuddy.asm.Advice;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RepeatTodoRepository extends JpaRepository<RepeatTodo, Integer> {
-    List<RepeatTodo> readRepeatTodosByTodoId(Todo todoId);
+    // 반복 투두의 예외 행 조회 (반복 설정 변경으로 분리된 행 제외)
+    @Query("select r from RepeatTodo r where r.todoId = :todoId and r.date is not null")
+    List<RepeatTodo> readRepeatTodosByTodoId(@Param("todoId") Todo todoId);
+    Optional<RepeatTodo> findRepeatTodoByIdAndDateIsNotNull(int id);
+
+    // 회차 행의 대표 투두 ID (대표 투두를 잠그기 전에 엔티티를 불러오지 않도록 ID만 조회)
+    @Query("select r.todoId.id from RepeatTodo r where r.id = :id and r.date is not null")
+    Optional<Integer> findTodoIdById(@Param("id") int id);
     List<RepeatTodoResponseDto> findRepeatTodosByTodoIdAndIsDeletedIsFalse(Todo todoId);
     List<RepeatTodo> findRepeatTodosByDateIsAndIsDeletedIsFalse(LocalDate date);
-    List<RepeatTodo> findAllByTodoIdAndDateGreaterThanEqual(Todo todoId, LocalDate date);
-    List<RepeatTodo> findAllByTodoId(Todo todoId);
+    List<RepeatTodo> findRepeatTodosByTodoIdAndDate(Todo todoId, LocalDate date);
+
+    // 기간 내 반복 투두 예외 행(완료, 삭제) 조회 (삭제된 행 포함)
+    @Query("select r from RepeatTodo r join fetch r.todoId t " +
+            "where t.userId = :user and r.date between :startDate and :endDate")
+    List<RepeatTodo> findUserRepeatTodoExceptions(@Param("user") User user, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 유저의 모든 반복 투두 예외 행 조회 (일별 통계 재계산용, 삭제된 행 포함)
+    @Query("select r from RepeatTodo r join fetch r.todoId t where t.userId = :user and r.date is not null")
+    List<RepeatTodo> findAllByUser(@Param("user") User user);
+
+    // 동기화 커서 이후 변경된 반복 투두 예외 행 조회 (삭제 포함, update_at/id 키셋 페이징, before 이전에 수정된 행만)
+    @Query("select r from RepeatTodo r join fetch r.todoId t " +
+            "where t.userId = :user and (r.updatedAt > :updatedAt or (r.updatedAt = :updatedAt and r.id > :id)) " +
+            "and r.updatedAt < :before " +
+            "order by r.updatedAt, r.id")
+    List<RepeatTodo> findUserRepeatTodosUpdatedAfter(@Param("user") User user, @Param("updatedAt") LocalDateTime updatedAt, @Param("id") int id, @Param("before") LocalDateTime before, Pageable pageable);
+
+    // 반복 투두의 모든 예외 행 일괄 삭제 처리 (변경된 행 수 반환)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RepeatTodo r set r.isDeleted = true, r.updatedAt = :now " +
+            "where r.todoId = :todo and r.isDeleted = false")
+    int softDeleteAllByTodo(@Param("todo") Todo todo, @Param("now") LocalDateTime now);
+
+    // 해당 날짜 이후 예외 행 일괄 삭제 처리 (변경된 행 수 반환)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RepeatTodo r set r.isDeleted = true, r.updatedAt = :now " +
+            "where r.todoId = :todo and r.date >= :date and r.isDeleted = false")
+    int softDeleteAllByTodoFrom(@Param("todo") Todo todo, @Param("date") LocalDate date, @Param("now") LocalDateTime now);
+
+    // 반복 투두의 모든 예외 행 분리 (반복 설정 변경 시, 분리된 행 수 반환)
+    // 행을 지우면 동기화로 삭제가 전달되지 않으므로 삭제 처리하고 date를 비워 새 반복 설정의 회차와 겹치지 않게 한다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RepeatTodo r set r.isDeleted = true, r.date = null, r.updatedAt = :now " +
+            "where r.todoId = :todo and r.date is not null")
+    int detachAllByTodo(@Param("todo") Todo todo, @Param("now") LocalDateTime now);
 }
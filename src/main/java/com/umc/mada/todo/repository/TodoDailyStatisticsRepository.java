@@ -0,0 +1,37 @@
+package com.umc.mada.todo.repository;
+
+import com.umc.mada.todo.domain.TodoDailyStatistics;
+import com.umc.mada.user.domain.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TodoDailyStatisticsRepository extends JpaRepository<TodoDailyStatistics, Long>, TodoDailyStatisticsRepositoryCustom {
+    // 기간 내 완료한 투두가 있는 날짜 (연속 완료 기록 증분 반영용)
+    @Query("select distinct s.date from TodoDailyStatistics s where s.userId = :user and s.date between :startDate and :endDate and s.completedCount > 0")
+    List<LocalDate> findCompletedDatesBetween(@Param("user") User user, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 해당 날짜까지 완료한 투두가 있는 날짜 전체 (연속 완료 기록 재계산용)
+    @Query("select distinct s.date from TodoDailyStatistics s where s.userId = :user and s.date <= :until and s.completedCount > 0 order by s.date")
+    List<LocalDate> findCompletedDatesUntil(@Param("user") User user, @Param("until") LocalDate until);
+
+    // 해당 날짜 이전에 마지막으로 완료한 투두가 있는 날짜 (없으면 null)
+    @Query("select max(s.date) from TodoDailyStatistics s where s.userId = :user and s.date < :date and s.completedCount > 0")
+    LocalDate findLastCompletedDateBefore(@Param("user") User user, @Param("date") LocalDate date);
+
+    // 유저의 일별 통계 전체 삭제 (재계산 시)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from TodoDailyStatistics s where s.userId = :user")
+    int deleteAllByUser(@Param("user") User user);
+
+    // 카테고리의 일별 통계 삭제 (카테고리 삭제 시 소속 투두가 모두 삭제되므로)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from TodoDailyStatistics s where s.userId = :user and s.category.id = :categoryId")
+    int deleteAllByUserAndCategoryId(@Param("user") User user, @Param("categoryId") int categoryId);
+}
@@ -0,0 +1,10 @@
+package com.umc.mada.todo.repository;
+
+import com.umc.mada.todo.repository.statistics.DailyStatisticsDelta;
+
+import java.util.List;
+
+public interface TodoDailyStatisticsRepositoryCustom {
+    // 일별 통계 증감 (행이 없으면 생성, 있으면 더한다)
+    void upsertAll(Long userId, List<DailyStatisticsDelta> deltas);
+}
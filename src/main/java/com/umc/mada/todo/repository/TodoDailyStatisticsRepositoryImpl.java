@@ -0,0 +1,34 @@
+package com.umc.mada.todo.repository;
+
+import com.umc.mada.todo.repository.statistics.DailyStatisticsDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TodoDailyStatisticsRepositoryImpl implements TodoDailyStatisticsRepositoryCustom {
+    // 유니크 키 (user_id, date, category_id) 충돌 시 기존 값에 더한다. (동시 수정에도 원자적으로 반영)
+    private static final String UPSERT_SQL = "INSERT INTO TODO_DAILY_STATISTICS (user_id, date, category_id, total_count, completed_count, update_at) " +
+            "VALUES (?, ?, ?, ?, ?, NOW()) " +
+            "ON DUPLICATE KEY UPDATE total_count = total_count + VALUES(total_count), " +
+            "completed_count = completed_count + VALUES(completed_count), update_at = NOW()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertAll(Long userId, List<DailyStatisticsDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // 반복 투두는 회차 수만큼 행이 바뀌므로 한 번에 배치로 보낸다.
+        jdbcTemplate.batchUpdate(UPSERT_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setLong(1, userId);
+            ps.setDate(2, Date.valueOf(delta.getDate()));
+            ps.setInt(3, delta.getCategoryId());
+            ps.setInt(4, delta.getTotalCount());
+            ps.setInt(5, delta.getCompletedCount());
+        });
+    }
+}
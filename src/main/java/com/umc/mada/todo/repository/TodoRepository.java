@@ -3,14 +3,25 @@ package com.umc.mada.todo.repository;
 import com.umc.mada.todo.domain.Repeat;
 import com.umc.mada.todo.domain.Todo;
 import com.umc.mada.user.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 @Repository
 public interface TodoRepository extends JpaRepository<Todo, Integer>{//, TodoRepositoryCustom
@@ -18,80 +29,62 @@ public interface TodoRepository extends JpaRepository<Todo, Integer>{//, TodoRep
     List<Todo> findByUserIdAndRepeatIn(User userId, List<Repeat> repeats);
     List<Todo> findTodosByUserIdAndDateIs(User userId, LocalDate date);
     List<Todo> findTodosByUserIdAndCategoryId(User userId, int categoryId);
+    // 수정/삭제할 투두 조회 (변경 전후 통계 계산이 겹치지 않도록 커밋까지 행을 잠근다)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<Todo> findTodoByUserIdAndId(User userId, int id);
+
+    // 회차 행 ID로 수정/삭제할 때 대표 투두 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Todo t where t.id = :id")
+    Optional<Todo> findTodoForUpdateById(@Param("id") int id);
     List<Todo> findTodosByUserIdAndIsDeletedIsFalse(User user);
     List<Todo> findTodosByUserIdAndCategoryIdAndIsDeletedIsFalse(User userId, int categoryId);
 
-    @Query(value = "select ROUND(IFNULL(AVG(A.complete) * 100, 0), 1) as completeTodoPercent, ROUND(COUNT(A.complete)/COUNT(*),1) as todosPercent\n" +
-            "from (select T.user_id, T.date, T.complete\n" +
-            "      from TODO T\n" +
-            "      where T.user_id = :uid and (T.date between :startDate and :endDate) and `repeat` = 'N') A right join (\n" +
-            "    SELECT DATE_FORMAT(ADDDATE(:startDate, INTERVAL @num\\:=@num+1 DAY), '%Y-%m-%d') `date`\n" +
-            "    FROM CUSTOM_ITEM, (SELECT @num\\:=-1) num\n" +
-            "    LIMIT :length\n" +
-            ") B on A.date = B.date\n" +
-            "group by MONTH(B.date);", nativeQuery = true)
-//    @Query(value = "select ROUND(IFNULL(AVG(IFNULL(A.complete, 0)) * 100, 0), 1) as completeTodoPercent, ROUND(COUNT(IFNULL(A.complete, 0)) / COUNT(*), 1) as todosPercent\n" +
-//        "from (select user_id, T.date, T.complete\n" +
-//        "      from TODO T\n" +
-//        "      where `repeat` = 'N') A right join\n" +
-//        "    (SELECT DATE_FORMAT(ADDDATE('2023-08-01', INTERVAL @num\\:=@num+1 DAY), '%Y-%m-%d') `date`\n" +
-//        "    FROM TODO, (SELECT @num\\:=-1) num\n" +
-//        "    LIMIT 31) B on A.date = B.date\n" + //TODO: limit 진짜 한달 날짜로 해야함
-//        "group by month(B.date);", nativeQuery = true)
-//    @Query(value = "select ROUND(IFNULL(AVG(IFNULL(A.complete, 0)) * 100, 0), 1) as completeTodoPercent, ROUND(COUNT(IFNULL(A.complete, 0)) / COUNT(*), 1) as todosPercent\n" +
-//            "from (select user_id, T.date, T.complete\n" +
-//            "      from TODO T\n" +
-//            "      where user_id = 55 and (T.date between '2023-08-01' and '2023-08-31') and `repeat` = 'N') A right join (\n" +
-//            "    SELECT DATE_FORMAT(ADDDATE('2023-08-01', INTERVAL @num:=@num+1 DAY), '%Y-%m-%d') `date`\n" +
-//            "    FROM TODO, (SELECT @num:=-1) num\n" +
-//            "    LIMIT 31\n" +
-//            ") B on A.date = B.date\n" +
-//            "group by month(B.date);", nativeQuery = true)
-    TodoStatisticsVO findTodosMonthAVG(@Param("uid")Long uid, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate, int length);
+    // 홈 화면 투두 조회 (유저, 날짜 기준 / 카테고리, 아이콘 fetch join)
+    @Query("select t from Todo t join fetch t.category c join fetch c.icon " +
+            "where t.userId = :user and t.date = :date and t.isDeleted = false " +
+            "and t.repeat = com.umc.mada.todo.domain.Repeat.N and c.isDeleted = false")
+    List<Todo> findUserTodosByDate(@Param("user") User user, @Param("date") LocalDate date);
+
+    // 기간 내 투두 조회 (유저, 기간 기준 / 카테고리, 아이콘 fetch join)
+    @Query("select t from Todo t join fetch t.category c join fetch c.icon " +
+            "where t.userId = :user and t.date between :startDate and :endDate and t.isDeleted = false " +
+            "and t.repeat = com.umc.mada.todo.domain.Repeat.N and c.isDeleted = false order by t.date")
+    List<Todo> findUserTodosBetween(@Param("user") User user, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 기간과 반복 범위가 겹치는 반복 투두 조회 (카테고리, 아이콘 fetch join)
+    @Query("select t from Todo t join fetch t.category c join fetch c.icon " +
+            "where t.userId = :user and t.isDeleted = false and t.repeat <> com.umc.mada.todo.domain.Repeat.N " +
+            "and t.startRepeatDate <= :endDate and t.endRepeatDate >= :startDate and c.isDeleted = false")
+    List<Todo> findUserRepeatTodosBetween(@Param("user") User user, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 투두 내보내기용 전체 일반 투두 조회 (MySQL 드라이버가 행 단위로 스트리밍하도록 fetch size를 Integer.MIN_VALUE로 지정)
+    // 스트림이 열려 있는 동안 같은 커넥션으로 다른 쿼리를 실행할 수 없다.
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select t from Todo t join fetch t.category c " +
+            "where t.userId = :user and t.isDeleted = false and t.repeat = com.umc.mada.todo.domain.Repeat.N order by t.date, t.id")
+    Stream<Todo> streamUserTodos(@Param("user") User user);
+
+    // 유저의 반복 투두 전체 조회 (카테고리 fetch join)
+    @Query("select t from Todo t join fetch t.category c " +
+            "where t.userId = :user and t.isDeleted = false and t.repeat <> com.umc.mada.todo.domain.Repeat.N order by t.id")
+    List<Todo> findUserRepeatTodos(@Param("user") User user);
+
+    // 동기화 커서 이후 변경된 투두 조회 (삭제 포함, update_at/id 키셋 페이징, before 이전에 수정된 행만)
+    @Query("select t from Todo t join fetch t.category c join fetch c.icon " +
+            "where t.userId = :user and (t.updatedAt > :updatedAt or (t.updatedAt = :updatedAt and t.id > :id)) " +
+            "and t.updatedAt < :before " +
+            "order by t.updatedAt, t.id")
+    List<Todo> findUserTodosUpdatedAfter(@Param("user") User user, @Param("updatedAt") LocalDateTime updatedAt, @Param("id") int id, @Param("before") LocalDateTime before, Pageable pageable);
 
-//    @Query(value = "select IFNULL(ROUND(AVG(A.complete)*100,1),0) as completeTodoPercent, ROUND(COUNT(A.complete)/COUNT(*),1) as todosPercent\n" +
-//            "from (select user_id, T.date, T.complete\n" +
-//            "      from TODO T\n" +
-//            "      where (user_id = 55) and (T.date between '2023-08-01' and '2023-08-31') and `repeat` = 'N') A right join\n" +
-//            "    (SELECT DATE_FORMAT(ADDDATE('2023-08-01', INTERVAL @num\\:=@num+1 DAY), '%Y-%m-%d') `date`\n" +
-//            "    FROM TODO, (SELECT @num\\:=-1) num\n" +
-//            "    LIMIT 31) B on A.date = B.date\n" + //TODO: limit 진짜 한달 날짜로 해야함
-//            "group by week(B.date);", nativeQuery = true)
-//    @Query(value = "select IFNULL(ROUND(AVG(A.complete)*100,1),0) as completeTodoPercent, ROUND(COUNT(A.complete)/COUNT(*),1) as todosPercent\n" +
-//            "from (select user_id, T.date, T.complete\n" +
-//            "      from TODO T\n" +
-//            "      where user_id = 55 and (T.date between '2023-09-01' and '2023-09-31') and `repeat` = 'N') A right join (\n" +
-//            "    SELECT DATE_FORMAT(ADDDATE('2023-09-01', INTERVAL @num\\:=@num+1 DAY), '%Y-%m-%d') `date`\n" +
-//            "    FROM TODO, (SELECT @num\\:=-1) num\n" +
-//            "    LIMIT 30\n" +
-//            ") B on A.date = B.date\n" +
-//            "group by week(B.date);", nativeQuery = true)
-    @Query(value = "select ROUND(IFNULL(AVG(A.complete) * 100, 0), 1) as completeTodoPercent, ROUND(COUNT(A.complete)/COUNT(*),1) as todosPercent\n" +
-            "from (select T.user_id, T.date, T.complete\n" +
-            "      from TODO T\n" +
-            "      where T.user_id = :uid and (T.date between :startDate and :endDate) and `repeat` = 'N') A right join (\n" +
-            "    SELECT DATE_FORMAT(ADDDATE(:startDate, INTERVAL @num\\:=@num+1 DAY), '%Y-%m-%d') `date`\n" +
-            "    FROM CUSTOM_ITEM, (SELECT @num\\:=-1) num\n" +
-            "    LIMIT :length\n" +
-            ") B on A.date = B.date\n" +
-            "group by MONTH(B.date);", nativeQuery = true)
-    List<TodoStatisticsVO> findTodosWeekAVG(@Param("uid") Long uid, @Param("startDate") LocalDate startDate , @Param("endDate") LocalDate endDate, int length);
+    // 투두 삭제 처리 (이미 삭제된 투두면 0 반환)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Todo t set t.isDeleted = true, t.updatedAt = :now " +
+            "where t.userId = :user and t.id = :id and t.isDeleted = false")
+    int softDeleteTodo(@Param("user") User user, @Param("id") int id, @Param("now") LocalDateTime now);
 
-    @Query(value = "select A.category_name as categoryName, A.color, " +
-            "ROUND(COUNT(A.category_name) / (SELECT COUNT(*) FROM TODO WHERE user_id = :uid and complete = 1 and (date between :startDate and :endDate) and `repeat` = 'N')*100, 0)as rate\n" +
-            "from (select T.user_id, T.date, T.complete, C.category_name, C.id as category_id, C.color as color\n" +
-            "      from TODO T join CATEGORY C\n" +
-            "        on C.id = T.category_id\n" +
-            "      where T.user_id = :uid and (T.date between :startDate and :endDate) and `repeat` = 'N') A\n" +
-            "    right join\n" +
-            "    (SELECT DATE_FORMAT(ADDDATE(:startDate, INTERVAL @num\\:=@num+1 DAY), '%Y-%m-%d') `date`\n" +
-            "     FROM CUSTOM_ITEM, (SELECT @num\\:=-1) num\n" +
-            "     LIMIT :length) B\n" +
-            "on A.date = B.date\n" +
-            "where A.complete = 1\n" +
-            "GROUP BY A.category_id\n" +
-            "ORDER BY rate DESC\n" +
-            "LIMIT 5", nativeQuery = true)
-    List<CategoryStatisticsVO> findCategoryAVG(@Param("uid") Long uid, @Param("startDate") LocalDate startDate ,@Param("endDate") LocalDate endDate, int length);
-}
\ No newline at end of file
+    // 반복 종료일 변경 (이 반복 투두 및 향후 반복 투두 삭제 시)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Todo t set t.endRepeatDate = :endRepeatDate, t.updatedAt = :now where t.id = :id")
+    int updateEndRepeatDate(@Param("id") int id, @Param("endRepeatDate") LocalDate endRepeatDate, @Param("now") LocalDateTime now);
+}
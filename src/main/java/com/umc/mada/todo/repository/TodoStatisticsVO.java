@@ -1,6 +0,0 @@
-package com.umc.mada.todo.repository;
-
-public interface TodoStatisticsVO {
-    Double getTodosPercent();
-    Double getCompleteTodoPercent();
-}
@@ -0,0 +1,13 @@
+package com.umc.mada.todo.repository;
+
+import com.umc.mada.todo.domain.TodoStreak;
+import com.umc.mada.user.domain.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TodoStreakRepository extends JpaRepository<TodoStreak, Long>, TodoStreakRepositoryCustom {
+    Optional<TodoStreak> findByUserId(User userId);
+}
@@ -0,0 +1,8 @@
+package com.umc.mada.todo.repository;
+
+import com.umc.mada.todo.domain.TodoStreak;
+
+public interface TodoStreakRepositoryCustom {
+    // 연속 완료 기록 저장 (유저 행이 없으면 생성, 있으면 덮어쓴다)
+    void upsert(Long userId, TodoStreak streak);
+}
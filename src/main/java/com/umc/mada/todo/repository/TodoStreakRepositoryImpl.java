@@ -0,0 +1,31 @@
+package com.umc.mada.todo.repository;
+
+import com.umc.mada.todo.domain.TodoStreak;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class TodoStreakRepositoryImpl implements TodoStreakRepositoryCustom {
+    // 유니크 키 (user_id) 충돌 시 덮어쓴다. (첫 기록을 동시에 만들어도 실패하지 않는다)
+    private static final String UPSERT_SQL = "INSERT INTO TODO_STREAK (user_id, latest_start, latest_end, longest_start, longest_end, update_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE latest_start = VALUES(latest_start), latest_end = VALUES(latest_end), " +
+            "longest_start = VALUES(longest_start), longest_end = VALUES(longest_end), update_at = VALUES(update_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsert(Long userId, TodoStreak streak) {
+        jdbcTemplate.update(UPSERT_SQL, userId, toDate(streak.getLatestStart()), toDate(streak.getLatestEnd()),
+                toDate(streak.getLongestStart()), toDate(streak.getLongestEnd()), Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private static Date toDate(LocalDate date) {
+        return date == null ? null : Date.valueOf(date);
+    }
+}
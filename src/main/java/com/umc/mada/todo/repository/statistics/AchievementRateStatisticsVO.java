@@ -1,10 +1,14 @@
 package com.umc.mada.todo.repository.statistics;
 
-import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 
-public interface AchievementRateStatisticsVO {
-    LocalDate getDate();
-    Integer getCount();
-    float getRate();
+import java.time.LocalDate;
 
+@Getter
+@AllArgsConstructor
+public class AchievementRateStatisticsVO {
+    private final LocalDate date;
+    private final Integer count;
+    private final float rate;
 }
@@ -1,9 +1,23 @@
 package com.umc.mada.todo.repository.statistics;
 
-public interface CategoryStatisticsVO {
-    Integer getCategoryId();
-    String getCategoryName();
-    String getColor();
-    Integer getCount();
-    float getRate();
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 카테고리별 완료 수 (이번 기간, 이전 기간)
+ */
+@Getter
+@AllArgsConstructor
+public class CategoryStatisticsVO {
+    private final Integer categoryId;
+    private final String categoryName;
+    private final String color;
+    private final Integer count; // 이번 기간 완료 수
+    private final Integer previousCount; // 이전 기간 완료 수
+    private final float rate; // 이번 기간 전체 완료 수 중 비율
+
+    // 이전 기간보다 더 완료한 수
+    public int getDiff() {
+        return count - previousCount;
+    }
 }
@@ -0,0 +1,18 @@
+package com.umc.mada.todo.repository.statistics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 통계 증감값 (날짜, 카테고리별)
+ */
+@Getter
+@RequiredArgsConstructor
+public class DailyStatisticsDelta {
+    private final LocalDate date;
+    private final int categoryId;
+    private final int totalCount;
+    private final int completedCount;
+}
@@ -1,7 +1,12 @@
 package com.umc.mada.todo.repository.statistics;
 
-public interface MonthlyBarGraphAndRateStatisticsVO {
-    String getMonthDate();
-    int getCount();
-    float getRate();
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MonthlyBarGraphAndRateStatisticsVO {
+    private final String monthDate;
+    private final int count;
+    private final float rate;
 }
@@ -1,5 +0,0 @@
-package com.umc.mada.todo.repository.statistics;
-
-public interface PreviousCategoryStatisticsVO {
-    Integer getCount();
-}
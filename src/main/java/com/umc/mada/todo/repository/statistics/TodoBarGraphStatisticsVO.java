@@ -1,8 +1,13 @@
 package com.umc.mada.todo.repository.statistics;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
 import java.time.LocalDate;
 
-public interface TodoBarGraphStatisticsVO {
-    LocalDate getTodoDate();
-    Integer getCount();
+@Getter
+@AllArgsConstructor
+public class TodoBarGraphStatisticsVO {
+    private final LocalDate todoDate;
+    private final Integer count;
 }
@@ -1,11 +1,16 @@
 package com.umc.mada.todo.repository.statistics;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
 import java.time.LocalDate;
 
-public interface WeeklyBarGraphAndRateStatisticsVO {
-    LocalDate getStartDate();
-    LocalDate getEndDate();
-    String getWeekDate();
-    Integer getCount();
-    float getRate();
+@Getter
+@AllArgsConstructor
+public class WeeklyBarGraphAndRateStatisticsVO {
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final String weekDate;
+    private final Integer count;
+    private final float rate;
 }
@@ -0,0 +1,51 @@
+package com.umc.mada.todo.service;
+
+import com.umc.mada.exception.StatisticsTimeoutException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 통계 쿼리 동시 실행
+ * 서로 독립적인 쿼리를 chartQueryExecutor에서 동시에 실행하고, 쿼리마다 최대 대기 시간을 둔다.
+ */
+@Component
+public class ChartQueryExecutor {
+    // 쿼리 하나당 최대 대기 시간
+    private static final long QUERY_TIMEOUT_MILLIS = 3000;
+
+    private final ThreadPoolTaskExecutor executor;
+
+    public ChartQueryExecutor(@Qualifier("chartQueryExecutor") ThreadPoolTaskExecutor executor) {
+        this.executor = executor;
+    }
+
+    // 쿼리 실행 요청 (시간 초과 시 StatisticsTimeoutException으로 끝난다)
+    public <T> CompletableFuture<T> submit(String name, Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, executor)
+                .orTimeout(QUERY_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof TimeoutException) {
+                        // 대기만 끝내고 DB 쿼리는 취소하지 않는다.
+                        throw new StatisticsTimeoutException("통계 조회 시간이 초과되었습니다. (" + name + ")");
+                    }
+                    throw cause instanceof RuntimeException ? (RuntimeException) cause : new CompletionException(cause);
+                });
+    }
+
+    // 결과 대기 (쿼리에서 난 예외는 그대로 던진다)
+    public <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
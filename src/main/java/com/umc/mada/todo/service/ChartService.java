@@ -1,82 +1,79 @@
 package com.umc.mada.todo.service;
 
+import com.umc.mada.todo.domain.DailySeries;
 import com.umc.mada.todo.dto.StatisticsResponseDto;
-import com.umc.mada.todo.repository.ChartRepository;
+import com.umc.mada.todo.dto.YearlyStatisticsResponseDto;
 import com.umc.mada.todo.repository.statistics.*;
 import com.umc.mada.user.domain.User;
-import com.umc.mada.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.temporal.TemporalAdjusters;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 public class ChartService {
-    private final ChartRepository chartRepository;
-    private final UserRepository userRepository;
-
-    public StatisticsResponseDto dailyStatistics(Authentication authentication, LocalDate date){
-        User user  = userRepository.findByAuthId(authentication.getName()).orElseThrow(()-> new RuntimeException("올바른 유저 ID가 아닙니다."));
-
-        //카테고리 통계
-        List<CategoryStatisticsVO> categoryStatisticsVOList = chartRepository.statisticsOnCategories(user.getId(), date, date);
-        int check = categoryStatisticsVOList.get(0).getCategoryId();
-        PreviousCategoryStatisticsVO previousCategoryStatisticsVO = chartRepository.statisticsOnPreviousCategories(user.getId(), date, date, check);
-
-        //막대 그래프 통계
-        LocalDate startDate = date.minusDays(3);
-        List<TodoBarGraphStatisticsVO> todoBarGraphStatisticsVOList = chartRepository.dayTodoBarGraphStatistics(user.getId(), startDate, date);
-        Integer totalCount = chartRepository.countAllByUserIdAndDate(user, date);
-
-        //달성률 통계
-        startDate = date.minusDays(5);
-        List<AchievementRateStatisticsVO> achievementRateStatisticsVOList = chartRepository.dayStatisticsOnAchievementRate(user.getId(), startDate, date);
-
-        return StatisticsResponseDto.ofDay(categoryStatisticsVOList, previousCategoryStatisticsVO, todoBarGraphStatisticsVOList, totalCount, achievementRateStatisticsVOList);
+    private final StatisticsEngine statisticsEngine;
+    private final ChartQueryExecutor chartQueryExecutor;
+
+    public StatisticsResponseDto dailyStatistics(User user, LocalDate date){
+        StatisticsEngine.Range today = statisticsEngine.day(date);
+
+        //카테고리 통계 (오늘, 어제 비교)
+        CompletableFuture<List<CategoryStatisticsVO>> categoryStatistics = chartQueryExecutor.submit("categoryComparison",
+                () -> statisticsEngine.categories(user, today));
+        //막대 그래프, 달성률 통계 (최근 6일 일별 통계 한 번 조회)
+        CompletableFuture<DailySeries> dailySeries = chartQueryExecutor.submit("dailySeries",
+                () -> statisticsEngine.load(user, date.minusDays(5), date));
+
+        DailySeries series = chartQueryExecutor.join(dailySeries);
+        return StatisticsResponseDto.ofDay(chartQueryExecutor.join(categoryStatistics),
+                series.days(date.minusDays(3), date), series.totalCount(today.getStart(), today.getEnd()), series.dailyRates(date.minusDays(5), date));
     }
 
-    public StatisticsResponseDto weeklyStatistics(Authentication authentication, LocalDate date){
-        User user  = userRepository.findByAuthId(authentication.getName()).orElseThrow(()-> new RuntimeException("올바른 유저 ID가 아닙니다."));
-
-        //date에 해당하는 주의 시작 날짜와 마지막 날짜 구하기
-        LocalDate startDate = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
-        LocalDate endDate= date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
-
-        //카테고리 통계
-        List<CategoryStatisticsVO> categoryStatisticsVOList = chartRepository.statisticsOnCategories(user.getId(), startDate, endDate);
-        int totalCount = chartRepository.countAllByUserIdAndDateBetween(user, startDate, endDate); //이번주 생성한 투두 개수
-        int check = categoryStatisticsVOList.get(0).getCategoryId();
-        PreviousCategoryStatisticsVO previousCategoryStatisticsVO = chartRepository.statisticsOnPreviousCategories(user.getId(), startDate, endDate, check);
-
-        //막대 그래프&달성률 통계
-        LocalDate startDate2 = date.minusWeeks(6);
-        List<WeeklyBarGraphAndRateStatisticsVO> weeklyBarGraphAndRateStatisticsVOList = chartRepository.weeklyTodoBarGraphAndRateStatistics(user.getId(), startDate2, endDate);
-
-        return StatisticsResponseDto.ofWeek(categoryStatisticsVOList, totalCount, previousCategoryStatisticsVO, weeklyBarGraphAndRateStatisticsVOList);
+    public StatisticsResponseDto weeklyStatistics(User user, LocalDate date){
+        //date에 해당하는 주 (유저 설정에 따라 일요일 또는 월요일 시작)
+        StatisticsEngine.Range week = statisticsEngine.week(user, date);
+        DayOfWeek weekStart = statisticsEngine.weekStart(user);
+        LocalDate from = date.minusWeeks(6).with(TemporalAdjusters.previousOrSame(weekStart));
+
+        //카테고리 통계 (이번주, 지난주 비교)
+        CompletableFuture<List<CategoryStatisticsVO>> categoryStatistics = chartQueryExecutor.submit("categoryComparison",
+                () -> statisticsEngine.categories(user, week));
+        //막대 그래프&달성률 통계 (최근 7주 일별 통계 한 번 조회)
+        CompletableFuture<DailySeries> dailySeries = chartQueryExecutor.submit("dailySeries",
+                () -> statisticsEngine.load(user, from, week.getEnd()));
+
+        DailySeries series = chartQueryExecutor.join(dailySeries);
+        return StatisticsResponseDto.ofWeek(chartQueryExecutor.join(categoryStatistics), series.totalCount(week.getStart(), week.getEnd()), //이번주 생성한 투두 개수
+                series.weeks(from, week.getEnd(), weekStart));
     }
 
-    public StatisticsResponseDto monthlyStatistics(Authentication authentication, LocalDate date){
-        User user = userRepository.findByAuthId(authentication.getName()).orElseThrow(()-> new RuntimeException("올바른 유저 ID가 아닙니다."));
-
-        //date에 해당하는 주의 시작 날짜와 마지막 날짜 구하기
-        LocalDate startDate = date.with(TemporalAdjusters.firstDayOfMonth());
-        LocalDate endDate = date.with(TemporalAdjusters.lastDayOfMonth());
-
-        //카테고리 통계
-        List<CategoryStatisticsVO> categoryStatisticsVOList = chartRepository.statisticsOnCategories(user.getId(), startDate, endDate);
-        int totalCount = chartRepository.countAllByUserIdAndDateBetween(user, startDate, endDate); //이번달 생성한 투두 개수
-        int check = categoryStatisticsVOList.get(0).getCategoryId();
-        PreviousCategoryStatisticsVO previousCategoryStatisticsVO = chartRepository.statisticsOnPreviousCategories(user.getId(), startDate, endDate, check);
-
-        //막대 그래프&달성률 통계
-        LocalDate startDate2 = date.minusMonths(6);
-        List<MonthlyBarGraphAndRateStatisticsVO> monthlyBarGraphAndRateStatisticsVOList = chartRepository.monthlyTodoBarGraphAndRateStatistics(user.getId(), startDate2, endDate);
+    public StatisticsResponseDto monthlyStatistics(User user, LocalDate date){
+        //date에 해당하는 달
+        StatisticsEngine.Range month = statisticsEngine.month(date);
+        LocalDate from = date.minusMonths(6).with(TemporalAdjusters.firstDayOfMonth());
+
+        //카테고리 통계 (이번달, 지난달 비교)
+        CompletableFuture<List<CategoryStatisticsVO>> categoryStatistics = chartQueryExecutor.submit("categoryComparison",
+                () -> statisticsEngine.categories(user, month));
+        //막대 그래프&달성률 통계 (최근 7개월 일별 통계 한 번 조회)
+        CompletableFuture<DailySeries> dailySeries = chartQueryExecutor.submit("dailySeries",
+                () -> statisticsEngine.load(user, from, month.getEnd()));
+
+        DailySeries series = chartQueryExecutor.join(dailySeries);
+        return StatisticsResponseDto.ofMonth(chartQueryExecutor.join(categoryStatistics), series.totalCount(month.getStart(), month.getEnd()), //이번달 생성한 투두 개수
+                series.months(from, month.getEnd()));
+    }
 
-        return StatisticsResponseDto.ofMonth(categoryStatisticsVOList, totalCount, previousCategoryStatisticsVO, monthlyBarGraphAndRateStatisticsVOList);
+    public YearlyStatisticsResponseDto yearlyStatistics(User user, LocalDate date){
+        //date까지 365일 (일별 통계 한 번 조회 후 빈 날짜는 0으로 채운다)
+        LocalDate startDate = date.minusDays(364);
+        DailySeries series = statisticsEngine.load(user, startDate, date);
+        return YearlyStatisticsResponseDto.of(startDate, date, series.completedArray(startDate, date), series.rateArray(startDate, date));
     }
 }
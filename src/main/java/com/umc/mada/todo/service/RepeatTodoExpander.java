@@ -0,0 +1,92 @@
+package com.umc.mada.todo.service;
+
+import com.umc.mada.todo.domain.Repeat;
+import com.umc.mada.todo.domain.RepeatTodo;
+import com.umc.mada.todo.domain.Todo;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+
+/**
+ * 반복 투두 전개 로직
+ * 반복 투두는 날짜별 행을 미리 만들지 않고, 조회하는 기간에 대해서만 repeat/repeatInfo/startRepeatDate/endRepeatDate로 펼친다.
+ * REPEAT_TODO에는 사용자가 직접 건드린 회차(완료, 삭제)만 예외 행으로 저장된다.
+ */
+@Component
+public class RepeatTodoExpander {
+
+    // 기간 [from, to] 안에서 반복 투두가 발생하는 날짜 목록
+    public List<LocalDate> expand(Todo todo, LocalDate from, LocalDate to) {
+        if (todo.getRepeat() == null || todo.getRepeat() == Repeat.N
+                || todo.getStartRepeatDate() == null || todo.getEndRepeatDate() == null) {
+            return Collections.emptyList();
+        }
+        LocalDate start = todo.getStartRepeatDate().isAfter(from) ? todo.getStartRepeatDate() : from;
+        LocalDate end = todo.getEndRepeatDate().isBefore(to) ? todo.getEndRepeatDate() : to;
+        if (start.isAfter(end)) {
+            return Collections.emptyList();
+        }
+
+        List<LocalDate> dates = new ArrayList<>();
+        if (todo.getRepeat() == Repeat.DAY) {
+            for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+                dates.add(date);
+            }
+        } else if (todo.getRepeat() == Repeat.WEEK) {
+            DayOfWeek dayOfWeek = DayOfWeek.of(todo.getRepeatInfo());
+            for (LocalDate date = start.with(TemporalAdjusters.nextOrSame(dayOfWeek)); !date.isAfter(end); date = date.plusWeeks(1)) {
+                dates.add(date);
+            }
+        } else if (todo.getRepeat() == Repeat.MONTH) {
+            // repeatInfo가 0이면 매월 말일, 해당 일이 없는 달(ex. 2월 30일)은 말일로 맞춘다.
+            int dayOfMonth = todo.getRepeatInfo();
+            for (YearMonth month = YearMonth.from(start); !month.isAfter(YearMonth.from(end)); month = month.plusMonths(1)) {
+                LocalDate date = month.atDay(dayOfMonth == 0 ? month.lengthOfMonth() : Math.min(dayOfMonth, month.lengthOfMonth()));
+                if (!date.isBefore(start) && !date.isAfter(end)) {
+                    dates.add(date);
+                }
+            }
+        }
+        return dates;
+    }
+
+    // 해당 날짜에 반복 투두가 발생하는지 여부
+    public boolean occursOn(Todo todo, LocalDate date) {
+        return !expand(todo, date, date).isEmpty();
+    }
+
+    /**
+     * 반복 투두 목록을 기간 [from, to]로 펼치고 저장된 예외 행(완료, 삭제)을 덮어씌운다.
+     * 예외 행이 없는 회차는 저장되지 않은 RepeatTodo(id = 0)로 반환되며, 삭제된 회차는 제외된다.
+     */
+    public List<RepeatTodo> expand(List<Todo> todos, List<RepeatTodo> exceptions, LocalDate from, LocalDate to) {
+        Map<Integer, Map<LocalDate, RepeatTodo>> exceptionMap = new HashMap<>();
+        for (RepeatTodo exception : exceptions) {
+            Map<LocalDate, RepeatTodo> byDate = exceptionMap.computeIfAbsent(exception.getTodoId().getId(), id -> new HashMap<>());
+            RepeatTodo saved = byDate.get(exception.getDate());
+            // 같은 날짜에 행이 여러 개면 삭제되지 않은 행을 우선한다. (반복 설정 변경 이전에 생성된 행)
+            if (saved == null || saved.getIsDeleted()) {
+                byDate.put(exception.getDate(), exception);
+            }
+        }
+
+        List<RepeatTodo> occurrences = new ArrayList<>();
+        for (Todo todo : todos) {
+            Map<LocalDate, RepeatTodo> byDate = exceptionMap.getOrDefault(todo.getId(), Collections.emptyMap());
+            for (LocalDate date : expand(todo, from, to)) {
+                RepeatTodo exception = byDate.get(date);
+                if (exception == null) {
+                    occurrences.add(new RepeatTodo(todo, date, false, false));
+                } else if (!exception.getIsDeleted()) {
+                    occurrences.add(exception);
+                }
+            }
+        }
+        occurrences.sort(Comparator.comparing(RepeatTodo::getDate));
+        return occurrences;
+    }
+}
@@ -0,0 +1,217 @@
+package com.umc.mada.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.umc.mada.global.cache.ExpiringLruCache;
+import com.umc.mada.user.domain.User;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 통계 응답 캐시 (유저, 기간 종류, 기준 날짜별)
+ * 투두가 바뀌면 TodoStatisticsRecorder가 바뀐 날짜를 포함하는 응답만 비운다.
+ * ETag는 응답 내용의 해시라서 서버가 여러 대이거나 캐시가 만료되어도 내용이 같으면 같은 값이다.
+ * 조회는 잠금 밖에서 하므로, 조회하는 동안 캐시가 비워졌으면(버전이 바뀌었으면) 결과를 저장하지 않는다.
+ */
+@Component
+public class StatisticsCache {
+    private static final int MAX_USERS = 10_000;
+    private static final long TTL_MILLIS = 10 * 60 * 1000L; // 10분
+    private static final int MAX_ENTRIES_PER_USER = 64;
+
+    private final ObjectMapper objectMapper;
+    private final ExpiringLruCache<Long, UserEntries> cache = new ExpiringLruCache<>(MAX_USERS, TTL_MILLIS);
+
+    @Autowired
+    public StatisticsCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public enum Period {
+        DAY, WEEK, MONTH, YEAR, AVERAGE_WEEK, AVERAGE_MONTH
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Cached<T> get(User user, Period period, LocalDate date, Supplier<T> loader) {
+        UserEntries entries = cache.computeIfAbsent(user.getId(), userId -> new UserEntries());
+        Key key = new Key(period, date);
+        long version;
+        synchronized (entries) {
+            Cached<T> cached = (Cached<T>) entries.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            version = entries.version;
+        }
+
+        T value = loader.get();
+        Cached<T> cached = new Cached<>(value, etagOf(value), coveredFrom(period, date), coveredTo(period, date));
+        synchronized (entries) {
+            // 조회 중에 커밋된 변경이 있으면 조회한 값이 이미 지난 값일 수 있으므로 저장하지 않는다.
+            if (entries.version == version) {
+                entries.put(key, cached);
+            }
+        }
+        return cached;
+    }
+
+    // 해당 날짜들이 포함된 통계만 비운다. (트랜잭션 중이면 커밋 이후에도 한 번 더 비운다)
+    public void evict(User user, Collection<LocalDate> dates) {
+        Long userId = user.getId();
+        evictNow(userId, dates);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(userId, dates);
+                }
+            });
+        }
+    }
+
+    // 유저의 통계 전체를 비운다. (카테고리, 닉네임 변경 등)
+    public void evictAll(User user) {
+        Long userId = user.getId();
+        evictAllNow(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAllNow(userId);
+                }
+            });
+        }
+    }
+
+    private void evictNow(Long userId, Collection<LocalDate> dates) {
+        UserEntries entries = cache.get(userId);
+        if (entries == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.version++;
+            entries.values().removeIf(cached -> dates.stream().anyMatch(cached::covers));
+        }
+    }
+
+    private void evictAllNow(Long userId) {
+        UserEntries entries = cache.get(userId);
+        if (entries != null) {
+            synchronized (entries) {
+                entries.version++;
+                entries.clear();
+            }
+        }
+        cache.evict(userId);
+    }
+
+    private String etagOf(Object value) {
+        try {
+            return "\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(value)) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 기간 종류별로 응답 계산에 쓰이는 날짜 범위 (ChartService, TodoService.calcTodoAverage가 StatisticsEngine으로 읽는 범위)
+    private static LocalDate coveredFrom(Period period, LocalDate date) {
+        switch (period) {
+            case DAY:
+                return date.minusDays(5);
+            case WEEK:
+                return date.minusWeeks(7); // 6주 전이 속한 주의 시작일까지
+            case MONTH:
+                return date.minusMonths(6).with(TemporalAdjusters.firstDayOfMonth());
+            case YEAR:
+                return date.minusDays(364);
+            default:
+                return date.with(TemporalAdjusters.firstDayOfMonth());
+        }
+    }
+
+    private static LocalDate coveredTo(Period period, LocalDate date) {
+        switch (period) {
+            case DAY:
+            case YEAR:
+                return date;
+            case WEEK:
+                return date.plusDays(6); // 주 시작 요일(일/월)에 관계없이 이번 주 끝까지 포함
+            default:
+                return date.with(TemporalAdjusters.lastDayOfMonth());
+        }
+    }
+
+    /**
+     * 캐시된 응답과 ETag
+     */
+    @Getter
+    public static class Cached<T> {
+        private final T value;
+        private final String etag;
+        private final LocalDate from;
+        private final LocalDate to;
+
+        private Cached(T value, String etag, LocalDate from, LocalDate to) {
+            this.value = value;
+            this.etag = etag;
+            this.from = from;
+            this.to = to;
+        }
+
+        private boolean covers(LocalDate date) {
+            return !date.isBefore(from) && !date.isAfter(to);
+        }
+    }
+
+    /**
+     * 유저 한 명의 캐시된 응답 (가장 오래 쓰지 않은 응답부터 밀어낸다)
+     * version은 캐시를 비울 때마다 증가한다.
+     */
+    private static class UserEntries extends LinkedHashMap<Key, Cached<?>> {
+        private long version;
+
+        private UserEntries() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Cached<?>> eldest) {
+            return size() > MAX_ENTRIES_PER_USER;
+        }
+    }
+
+    private static class Key {
+        private final Period period;
+        private final LocalDate date;
+
+        private Key(Period period, LocalDate date) {
+            this.period = period;
+            this.date = date;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return period == key.period && date.equals(key.date);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(period, date);
+        }
+    }
+}
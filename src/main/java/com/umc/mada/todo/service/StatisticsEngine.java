@@ -0,0 +1,79 @@
+package com.umc.mada.todo.service;
+
+import com.umc.mada.todo.domain.DailySeries;
+import com.umc.mada.todo.repository.ChartStatisticsRepository;
+import com.umc.mada.todo.repository.statistics.CategoryStatisticsVO;
+import com.umc.mada.user.domain.User;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+/**
+ * 투두 통계 계산 (통계 화면 /chart/*, 투두 평균 /user/statistics 공통)
+ * 일반 투두와 반복 투두 회차를 함께 담은 일별 통계를 기간 전체에 대해 한 번 읽고(DailySeries), 모든 지표를 그 결과로 계산한다.
+ * 일, 주(유저 설정 시작 요일), 월 기간 계산도 여기서만 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StatisticsEngine {
+    private final ChartStatisticsRepository chartStatisticsRepository;
+
+    // 유저 설정에 따른 주 시작 요일
+    public DayOfWeek weekStart(User user) {
+        return user.isStartTodoAtMonday() ? DayOfWeek.MONDAY : DayOfWeek.SUNDAY;
+    }
+
+    public Range day(LocalDate date) {
+        return new Range(date, date, date.minusDays(1));
+    }
+
+    public Range week(User user, LocalDate date) {
+        LocalDate start = date.with(TemporalAdjusters.previousOrSame(weekStart(user)));
+        return new Range(start, start.plusDays(6), start.minusWeeks(1));
+    }
+
+    public Range month(LocalDate date) {
+        LocalDate start = date.with(TemporalAdjusters.firstDayOfMonth());
+        return new Range(start, date.with(TemporalAdjusters.lastDayOfMonth()), start.minusMonths(1));
+    }
+
+    // date가 속한 주 중 같은 달에 속한 날만 (투두 평균 주간 통계, 이전 기간 비교 없음)
+    public Range weekInMonth(User user, LocalDate date) {
+        Range week = week(user, date);
+        Range month = month(date);
+        LocalDate start = week.getStart().isBefore(month.getStart()) ? month.getStart() : week.getStart();
+        LocalDate end = week.getEnd().isAfter(month.getEnd()) ? month.getEnd() : week.getEnd();
+        return new Range(start, end, start);
+    }
+
+    // 기간 [from, to]의 날짜별 전체/완료 투두 수
+    public DailySeries load(User user, LocalDate from, LocalDate to) {
+        return chartStatisticsRepository.findDailySeries(user.getId(), from, to);
+    }
+
+    // 카테고리별 이번 기간, 이전 기간 완료 수 (이번 기간 완료 수 내림차순)
+    public List<CategoryStatisticsVO> categories(User user, Range range) {
+        return chartStatisticsRepository.categoryComparison(user.getId(), range.getPreviousStart(), range.getStart(), range.getEnd());
+    }
+
+    /**
+     * 통계 기간 [start, end]와 비교할 이전 기간의 시작일 (이전 기간은 [previousStart, start))
+     */
+    @Getter
+    public static class Range {
+        private final LocalDate start;
+        private final LocalDate end;
+        private final LocalDate previousStart;
+
+        private Range(LocalDate start, LocalDate end, LocalDate previousStart) {
+            this.start = start;
+            this.end = end;
+            this.previousStart = previousStart;
+        }
+    }
+}
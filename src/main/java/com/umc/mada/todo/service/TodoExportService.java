@@ -0,0 +1,182 @@
+package com.umc.mada.todo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.umc.mada.todo.domain.RepeatTodo;
+import com.umc.mada.todo.domain.Todo;
+import com.umc.mada.todo.repository.RepeatTodoRepository;
+import com.umc.mada.todo.repository.TodoRepository;
+import com.umc.mada.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 투두 기록 내보내기 (CSV, NDJSON)
+ * 일반 투두는 스트림으로 한 행씩 읽어 바로 쓰고, 반복 투두는 투두 하나씩 오늘까지의 회차를 펼쳐 쓴다.
+ * 영속성 컨텍스트를 주기적으로 비워서 기록 길이와 관계없이 메모리 사용량이 일정하다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TodoExportService {
+    private static final String[] COLUMNS = {"date", "todoId", "todoName", "categoryId", "categoryName", "repeat", "complete"};
+    private static final int CLEAR_INTERVAL = 1000;
+
+    private final TodoRepository todoRepository;
+    private final RepeatTodoRepository repeatTodoRepository;
+    private final RepeatTodoExpander repeatTodoExpander;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    // 스트림을 여는 동안 트랜잭션(커넥션)이 유지되어야 하므로 응답 스트림에 쓰는 전체 과정을 트랜잭션으로 묶는다.
+    @Transactional(readOnly = true)
+    public void export(User user, Format format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        RowWriter rowWriter = format == Format.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(objectMapper.getFactory().createGenerator(writer));
+        rowWriter.header();
+
+        // 일반 투두 (스트림이 열려 있는 동안에는 다른 쿼리를 실행하지 않는다)
+        int written = 0;
+        try (Stream<Todo> todos = todoRepository.streamUserTodos(user)) {
+            for (Todo todo : (Iterable<Todo>) todos::iterator) {
+                rowWriter.row(todo, todo.getDate(), todo.getComplete());
+                if (++written % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+
+        // 반복 투두 회차 (오늘까지)
+        LocalDate today = LocalDate.now();
+        for (Todo todo : todoRepository.findUserRepeatTodos(user)) {
+            if (todo.getStartRepeatDate() == null || todo.getEndRepeatDate() == null || todo.getStartRepeatDate().isAfter(today)) {
+                continue;
+            }
+            List<RepeatTodo> exceptions = repeatTodoRepository.readRepeatTodosByTodoId(todo);
+            LocalDate end = todo.getEndRepeatDate().isBefore(today) ? todo.getEndRepeatDate() : today;
+            for (RepeatTodo occurrence : repeatTodoExpander.expand(Collections.singletonList(todo), exceptions, todo.getStartRepeatDate(), end)) {
+                rowWriter.row(todo, occurrence.getDate(), occurrence.getComplete());
+            }
+            entityManager.clear();
+        }
+        rowWriter.flush();
+    }
+
+    private interface RowWriter {
+        void header() throws IOException;
+
+        void row(Todo todo, LocalDate date, boolean complete) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    private static class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        private CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void header() throws IOException {
+            writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void row(Todo todo, LocalDate date, boolean complete) throws IOException {
+            writer.write(String.valueOf(date));
+            writer.write(',');
+            writer.write(String.valueOf(todo.getId()));
+            writer.write(',');
+            writer.write(escape(todo.getTodoName()));
+            writer.write(',');
+            writer.write(String.valueOf(todo.getCategory().getId()));
+            writer.write(',');
+            writer.write(escape(todo.getCategory().getCategoryName()));
+            writer.write(',');
+            writer.write(todo.getRepeat().name());
+            writer.write(',');
+            writer.write(String.valueOf(complete));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싼다. (RFC 4180)
+        private static String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+    }
+
+    private static class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+
+        private NdjsonRowWriter(JsonGenerator generator) {
+            this.generator = generator;
+            generator.setRootValueSeparator(null); // 객체 사이 공백 대신 줄바꿈만 쓴다.
+        }
+
+        @Override
+        public void header() {
+        }
+
+        @Override
+        public void row(Todo todo, LocalDate date, boolean complete) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField(COLUMNS[0], String.valueOf(date));
+            generator.writeNumberField(COLUMNS[1], todo.getId());
+            generator.writeStringField(COLUMNS[2], todo.getTodoName());
+            generator.writeNumberField(COLUMNS[3], todo.getCategory().getId());
+            generator.writeStringField(COLUMNS[4], todo.getCategory().getCategoryName());
+            generator.writeStringField(COLUMNS[5], todo.getRepeat().name());
+            generator.writeBooleanField(COLUMNS[6], complete);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+}
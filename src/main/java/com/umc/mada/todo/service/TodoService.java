@@ -2,49 +2,58 @@ package com.umc.mada.todo.service;
 
 import com.umc.mada.todo.domain.*;
 import com.umc.mada.todo.dto.*;
-import com.umc.mada.todo.repository.CategoryStatisticsVO;
 import com.umc.mada.todo.repository.RepeatTodoRepository;
-import com.umc.mada.todo.repository.TodoStatisticsVO;
 import com.umc.mada.todo.repository.TodoRepository;
+import com.umc.mada.todo.repository.statistics.CategoryStatisticsVO;
 import com.umc.mada.global.BaseResponseStatus;
+import com.umc.mada.global.DataResponse;
 import com.umc.mada.category.domain.Category;
 import com.umc.mada.category.repository.CategoryRepository;
+import com.umc.mada.category.service.CategoryCache;
 import com.umc.mada.user.domain.User;
-import com.umc.mada.user.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
 
-import javax.transaction.Transactional;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.time.DayOfWeek;
-import java.time.temporal.TemporalAdjusters;
+import java.time.temporal.ChronoUnit;
 
 @Service
 public class TodoService {
+    // 기간 조회 최대 일수 (월간 화면 + 앞뒤 주 여유분)
+    private static final int MAX_RANGE_DAYS = 42;
+
     private final TodoRepository todoRepository;
     private final RepeatTodoRepository repeatTodoRepository;
     private final CategoryRepository categoryRepository;
-    private final UserRepository userRepository;
+    private final CategoryCache categoryCache;
+    private final RepeatTodoExpander repeatTodoExpander;
+    private final TodoStatisticsRecorder todoStatisticsRecorder;
+    private final StatisticsEngine statisticsEngine;
 
 
     @Autowired
-    public TodoService(UserRepository userRepository, TodoRepository todoRepository, RepeatTodoRepository repeatTodoRepository, CategoryRepository categoryRepository) {
-        this.userRepository = userRepository;
+    public TodoService(TodoRepository todoRepository, RepeatTodoRepository repeatTodoRepository, CategoryRepository categoryRepository, CategoryCache categoryCache, RepeatTodoExpander repeatTodoExpander, TodoStatisticsRecorder todoStatisticsRecorder, StatisticsEngine statisticsEngine) {
         this.todoRepository = todoRepository;
         this.repeatTodoRepository = repeatTodoRepository;
         this.categoryRepository = categoryRepository;
+        this.categoryCache = categoryCache;
+        this.repeatTodoExpander = repeatTodoExpander;
+        this.todoStatisticsRecorder = todoStatisticsRecorder;
+        this.statisticsEngine = statisticsEngine;
     }
 
+    @Transactional
     // 투두 생성 로직
-    public Map<String, Object> createTodo(User user, TodoRequestDto todoRequestDto) {
+    public DataResponse<TodoDetailResponseDto> createTodo(User user, TodoRequestDto todoRequestDto) {
         validateUserId(user);
-        validateCategoryId(todoRequestDto.getCategory().getId());
+        Category category = validateCategory(user, todoRequestDto.getCategory().getId());
         validateTodoName(todoRequestDto.getTodoName());
 
-        Category category = categoryRepository.findCategoryByUserIdAndId(user, todoRequestDto.getCategory().getId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카테고리 ID입니다."));
         // 투두 앤티티 생성
         Todo todo = new Todo(user, (todoRequestDto.getRepeat() != Repeat.N) ? null :
                 (todoRequestDto.getDate() != null) ? todoRequestDto.getDate() : LocalDate.now(),
@@ -53,16 +62,10 @@ public class TodoService {
 
         // 투두를 저장하고 저장된 투두 앤티티 반환
         Todo savedTodo = todoRepository.save(todo);
-        List<RepeatTodoResponseDto> repeatTodoResponseDtoList = new ArrayList<>();
-        if(todo.getRepeat()!=Repeat.N){
-            repeatTodoResponseDtoList = createRepeatTodos(savedTodo);
-        }
-        Map<String, Object> map = new LinkedHashMap<>();
-        Map<String, Object> data = new LinkedHashMap<>();
-        data.put("Todo", TodoResponseDto.of(savedTodo));
-        data.put("RepeatTodos", repeatTodoResponseDtoList);
-        map.put("data", data);
-        return map;
+        todoStatisticsRecorder.added(user, savedTodo);
+        // 반복 투두는 회차별 행을 저장하지 않고 반복 범위를 펼쳐서 반환
+        List<RepeatTodoResponseDto> repeatTodoResponseDtoList = getRepeatTodoOccurrences(savedTodo, Collections.emptyList());
+        return DataResponse.of(new TodoDetailResponseDto(TodoResponseDto.of(savedTodo), repeatTodoResponseDtoList));
     }
 
     /**
@@ -71,76 +74,66 @@ public class TodoService {
     public TodoStatisticsResponseDto calcTodoAverage(User user, TodoStatisticsRequestDto todoStatisticsRequestDto){
         LocalDate date =  todoStatisticsRequestDto.getDate();
         String option = todoStatisticsRequestDto.getOption();
-        Map<String, Object> map = new LinkedHashMap<>();
-        map.put("nickName", user.getNickname());
-        
-        LocalDate startDay = null;
-        LocalDate endDay = null;
-        int length = 0;
-        if(option.equals("week")) {
-            startDay = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
-            endDay= date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
-            
-            if(startDay.getMonthValue() != date.getMonthValue()){
-                startDay = date.with(TemporalAdjusters.firstDayOfMonth());
-            }
-            if(endDay.getMonthValue() != date.getMonthValue()){
-                endDay = date.with(TemporalAdjusters.lastDayOfMonth());
-            }
 
-            length = startDay.until(endDay).getDays() + 1;
-        }
-        if(option.equals("month")) {
-            startDay = date.with(TemporalAdjusters.firstDayOfMonth());
-            endDay = date.with(TemporalAdjusters.lastDayOfMonth());
-            
-            length = date.lengthOfMonth(); //해당 달의 길이
-        }
-        TodoStatisticsVO todoStatisticsVO = todoRepository.findTodosMonthAVG(user.getId(), startDay, endDay, length);
-        List<CategoryStatisticsVO> categoryStatisticsVOs = todoRepository.findCategoryAVG(user.getId(), startDay, endDay, length);
+        // 주간은 같은 달에 속한 날만 (유저 설정 시작 요일 기준), 그 외는 월간
+        StatisticsEngine.Range range = option.equals("week") ? statisticsEngine.weekInMonth(user, date) : statisticsEngine.month(date);
+        double[] average = calcDailyAverage(statisticsEngine.load(user, range.getStart(), range.getEnd()), range);
+        List<CategoryStatisticsVO> categoryStatisticsVOs = statisticsEngine.categories(user, range);
         if(categoryStatisticsVOs.size()==0){
 //            CategoryStatisticsDto defaultCategoryStatisticsDto = new CategoryStatisticsDto()
             List<Category> categories =  categoryRepository.findCategoriesByUserId(user);
             List<CategoryStatisticsDto> categoryStatisticsDtos = categories.stream()
                     .map(category -> CategoryStatisticsDto.of(category.getCategoryName(), category.getColor(), (float) 0))
                     .collect(Collectors.toList());
-            return new TodoStatisticsResponseDto(user.getNickname(),todoStatisticsVO.getTodosPercent(), todoStatisticsVO.getCompleteTodoPercent(), categoryStatisticsDtos);
+            return new TodoStatisticsResponseDto(user.getNickname(), average[0], average[1], categoryStatisticsDtos);
         }
-        return TodoStatisticsResponseDto.of(user.getNickname(),todoStatisticsVO.getTodosPercent(), todoStatisticsVO.getCompleteTodoPercent(), categoryStatisticsVOs);
+        return TodoStatisticsResponseDto.of(user.getNickname(), average[0], average[1], categoryStatisticsVOs.subList(0, Math.min(5, categoryStatisticsVOs.size())));
+    }
+
+    /**
+     * 기간의 하루 평균 투두 수와 완료율 계산 ({todosPercent, completeTodoPercent})
+     * 투두가 없는 날도 하루로 센다.
+     */
+    private double[] calcDailyAverage(DailySeries series, StatisticsEngine.Range range) {
+        int totalCount = series.totalCount(range.getStart(), range.getEnd());
+        int completedCount = series.completedCount(range.getStart(), range.getEnd());
+        int days = (int) ChronoUnit.DAYS.between(range.getStart(), range.getEnd()) + 1;
+        int slots = totalCount + (days - series.createdDays(range.getStart(), range.getEnd()));
+
+        double todosPercent = slots == 0 ? 0 : Math.round((double) totalCount / slots * 10) / 10.0;
+        double completeTodoPercent = totalCount == 0 ? 0 : Math.round((double) completedCount / totalCount * 1000) / 10.0;
+        return new double[]{todosPercent, completeTodoPercent};
     }
 
 
     @Transactional
     // 투두 수정 로직
-    public Map<String, Object> updateTodo(User user, int todoId, TodoRequestDto todoRequestDto) {
+    public DataResponse<TodoDetailResponseDto> updateTodo(User user, int todoId, TodoRequestDto todoRequestDto) {
         validateUserId(user);
 
         Todo todo = todoRepository.findTodoByUserIdAndId(user, todoId)
                 .orElseThrow(() -> new IllegalArgumentException("NOT_FOUND_ERROR"));
-        List <RepeatTodo> repeatTodos = repeatTodoRepository.readRepeatTodosByTodoId(todo);
-        validateCategoryId(todo.getCategory().getId());
+        validateCategory(user, todo.getCategory().getId());
+        // 반복 투두는 통계 반영을 위해 기존 예외 행을 먼저 읽는다. (반복 설정이 그대로면 회차 응답에도 사용)
+        List <RepeatTodo> repeatTodos = todo.getRepeat() != Repeat.N ? repeatTodoRepository.readRepeatTodosByTodoId(todo) : Collections.emptyList();
+        TodoStatisticsRecorder.Snapshot before = todoStatisticsRecorder.snapshot(todo, repeatTodos);
 
         // 반복 내용 수정
         if (todoRequestDto.getRepeat() != null || todoRequestDto.getRepeatInfo() != null || todoRequestDto.getStartRepeatDate() != null || todoRequestDto.getEndRepeatDate() != null) {
-            // 기존 반복 투두 삭제 처리
-            for(RepeatTodo repeatTodo : repeatTodos){
-                repeatTodo.setIsDeleted(true);
-            }
+            // 기존 반복 회차의 예외 행 일괄 분리 (날짜를 남기면 새 반복 설정의 같은 날짜 회차까지 숨겨진다)
+            repeatTodoRepository.detachAllByTodo(todo, LocalDateTime.now());
+            repeatTodos = Collections.emptyList();
 
-            // 대표 투두 수정 처리
+            // 대표 투두 수정 처리 (반복 회차는 조회 시점에 펼쳐진다)
             todo.setRepeat(todoRequestDto.getRepeat());
             todo.setRepeatInfo(todoRequestDto.getRepeatInfo());
             todo.setStartRepeatDate(todoRequestDto.getStartRepeatDate());
             todo.setEndRepeatDate(todoRequestDto.getEndRepeatDate());
-            todoRepository.save(todo);
-
-            // 반복 투두 생성
-            createRepeatTodos(todo);
         }
 
         // 카테고리 ID 변경 처리
         if (todoRequestDto.getCategory() != null) {
-            Category category = categoryRepository.findCategoryByUserIdAndId(user, todoRequestDto.getCategory().getId())
+            Category category = categoryCache.find(user, todoRequestDto.getCategory().getId())
                     .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카테고리 ID입니다."));
             todo.setCategory(category);
         }
@@ -162,132 +155,166 @@ public class TodoService {
 
         // 수정된 Todo를 저장하고 저장된 투두 엔티티 반환
         Todo updatedTodo = todoRepository.save(todo);
-        List<RepeatTodoResponseDto> updatedRepeatTodos = repeatTodoRepository.findRepeatTodosByTodoIdAndIsDeletedIsFalse(updatedTodo);
+        todoStatisticsRecorder.record(user, before, todoStatisticsRecorder.snapshot(updatedTodo, repeatTodos));
+        List<RepeatTodoResponseDto> updatedRepeatTodos = getRepeatTodoOccurrences(updatedTodo, repeatTodos);
 
         // 저장된 투두 정보를 기반으로 TodoResponseDto 생성하여 반환
-        Map<String, Object> map = new LinkedHashMap<>();
-        Map<String, Object> data = new LinkedHashMap<>();
-        data.put("Todo", TodoResponseDto.of(updatedTodo));
-        data.put("RepeatTodos", updatedRepeatTodos);
-        map.put("data", data);
-        return map;
+        return DataResponse.of(new TodoDetailResponseDto(TodoResponseDto.of(updatedTodo), updatedRepeatTodos));
     }
 
     @Transactional
     // 투두 삭제 로직
     public void deleteTodo(User userId, int todoId) {
         // 주어진 투두 ID를 이용하여 투두 엔티티 조회
-        //Optional<Todo> optionalTodo = todoRepository.findTodoByUserIdAndId(userId, todoId);
         Todo todo = todoRepository.findTodoByUserIdAndId(userId, todoId)
                         .orElseThrow(() -> new IllegalArgumentException("NOT_FOUND_ERROR"));
-        List <RepeatTodo> repeatTodos = repeatTodoRepository.readRepeatTodosByTodoId(todo);
-        validateCategoryId(todo.getCategory().getId());
+        validateCategory(userId, todo.getCategory().getId());
+        List<RepeatTodo> repeatTodos = todo.getRepeat() != Repeat.N ? repeatTodoRepository.readRepeatTodosByTodoId(todo) : Collections.emptyList();
+        TodoStatisticsRecorder.Snapshot before = todoStatisticsRecorder.snapshot(todo, repeatTodos);
 
-        if (!todo.getIsDeleted()) {
-            //Todo todo = optionalTodo.get();
-            todo.setIsDeleted(true);
-            todoRepository.save(todo);
-        } else {
+        // 투두와 반복 회차 예외 행을 일괄 삭제 처리 (엔티티를 불러오지 않음)
+        if (todoRepository.softDeleteTodo(userId, todoId, LocalDateTime.now()) == 0) {
             throw new IllegalArgumentException(BaseResponseStatus.NOT_FOUND.getMessage());
         }
-
-        for(RepeatTodo repeatTodo: repeatTodos){
-            repeatTodo.setIsDeleted(true);
-            repeatTodoRepository.save(repeatTodo);
-        }
+        repeatTodoRepository.softDeleteAllByTodo(todo, LocalDateTime.now());
+        todoStatisticsRecorder.record(userId, before, new TodoStatisticsRecorder.Snapshot());
     }
 
-    @Transactional
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     // 반복 투두 수정 로직
     public RepeatTodoResponseDto updateRepeatTodo(User user, int repeatTodoId, RepeatTodoRequestDto repeatTodoRequestDto) {
         validateUserId(user);
-        RepeatTodo repeatTodo = repeatTodoRepository.findById(repeatTodoId)
-                .orElseThrow(() -> new IllegalArgumentException("NOT_FOUND_ERROR"));
+        RepeatTodo repeatTodo = lockRepeatTodo(repeatTodoId);
         Todo todo = repeatTodo.getTodoId();
         User todoUser = todo.getUserId();
 
         // 반복 투두 완료 여부 변경 처리
         if (repeatTodoRequestDto.getComplete() != null && todoUser.getId().equals(user.getId())){
+            boolean completeBefore = repeatTodo.getComplete();
             repeatTodo.setComplete(repeatTodoRequestDto.getComplete());
             repeatTodoRepository.save(repeatTodo);
+            todoStatisticsRecorder.occurrenceChanged(user, todo, repeatTodo.getDate(), completeBefore, repeatTodo.getIsDeleted(), repeatTodo.getComplete(), repeatTodo.getIsDeleted());
         }
-        return new RepeatTodoResponseDto(repeatTodo.getId(), repeatTodo.getTodoId().getId(), repeatTodo.getTodoId().getCategory().getId(), repeatTodo.getTodoId().getTodoName(), repeatTodo.getDate(), repeatTodo.getComplete());
+        return RepeatTodoResponseDto.of(repeatTodo);
     }
 
     @Transactional
+    // 반복 투두 수정 로직 (저장되지 않은 회차는 예외 행으로 저장)
+    public RepeatTodoResponseDto updateRepeatTodo(User user, int todoId, LocalDate date, RepeatTodoRequestDto repeatTodoRequestDto) {
+        validateUserId(user);
+        Todo todo = todoRepository.findTodoByUserIdAndId(user, todoId)
+                .orElseThrow(() -> new IllegalArgumentException("NOT_FOUND_ERROR"));
+        RepeatTodo repeatTodo = findOrCreateRepeatTodo(todo, date);
+
+        // 반복 투두 완료 여부 변경 처리
+        if (repeatTodoRequestDto.getComplete() != null){
+            boolean completeBefore = repeatTodo.getComplete();
+            repeatTodo.setComplete(repeatTodoRequestDto.getComplete());
+            repeatTodoRepository.save(repeatTodo);
+            todoStatisticsRecorder.occurrenceChanged(user, todo, date, completeBefore, false, repeatTodo.getComplete(), false);
+        }
+        return RepeatTodoResponseDto.of(repeatTodo);
+    }
+
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     // 반복 투두 삭제 로직 (이 반복 투두)
     public void deleteRepeatTodo(User userId, int repeatTodoId) {
-        RepeatTodo repeatTodo = repeatTodoRepository.findById(repeatTodoId)
-                .orElseThrow(() -> new IllegalArgumentException("NOT_FOUND_ERROR"));
-        validateCategoryId(repeatTodo.getTodoId().getCategory().getId());
+        RepeatTodo repeatTodo = lockRepeatTodo(repeatTodoId);
+        validateCategory(userId, repeatTodo.getTodoId().getCategory().getId());
         Todo todo = repeatTodo.getTodoId();
         User todoUser = todo.getUserId();
         if (todoUser.getId().equals(userId.getId())) {
+            boolean deletedBefore = repeatTodo.getIsDeleted();
             repeatTodo.setIsDeleted(true);
             repeatTodoRepository.save(repeatTodo);
+            todoStatisticsRecorder.occurrenceChanged(userId, todo, repeatTodo.getDate(), repeatTodo.getComplete(), deletedBefore, repeatTodo.getComplete(), true);
         }
     }
 
     @Transactional
+    // 반복 투두 삭제 로직 (이 반복 투두, 저장되지 않은 회차는 삭제 예외 행으로 저장)
+    public void deleteRepeatTodo(User userId, int todoId, LocalDate date) {
+        Todo todo = todoRepository.findTodoByUserIdAndId(userId, todoId)
+                .orElseThrow(() -> new IllegalArgumentException("NOT_FOUND_ERROR"));
+        validateCategory(userId, todo.getCategory().getId());
+        RepeatTodo repeatTodo = findOrCreateRepeatTodo(todo, date);
+        repeatTodo.setIsDeleted(true);
+        repeatTodoRepository.save(repeatTodo);
+        todoStatisticsRecorder.occurrenceChanged(userId, todo, date, repeatTodo.getComplete(), false, repeatTodo.getComplete(), true);
+    }
+
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     // 반복 투두 삭제 로직 (이 반복 투두 및 향후 반복 투두)
     public void deleteRepeatTodoAndFuture(User userId, int repeatTodoId){
-        RepeatTodo repeatTodo = repeatTodoRepository.findById(repeatTodoId)
-                .orElseThrow(() -> new IllegalArgumentException("NOT_FOUND_ERROR"));
-        validateCategoryId(repeatTodo.getTodoId().getCategory().getId());
+        RepeatTodo repeatTodo = lockRepeatTodo(repeatTodoId);
+        validateCategory(userId, repeatTodo.getTodoId().getCategory().getId());
         Todo todo = repeatTodo.getTodoId();
         User todoUser = todo.getUserId();
         if (todoUser.getId().equals(userId.getId())) {
-            List<RepeatTodo> futureRepeatTodos = repeatTodoRepository.findAllByTodoIdAndDateGreaterThanEqual(todo, repeatTodo.getDate());
-
-            for (RepeatTodo futureRepeatTodo : futureRepeatTodos) {
-                futureRepeatTodo.setIsDeleted(true);
-                repeatTodoRepository.save(futureRepeatTodo);
-            }
+            endRepeatBefore(todo, repeatTodo.getDate());
         }
     }
 
     @Transactional
+    // 반복 투두 삭제 로직 (이 반복 투두 및 향후 반복 투두, 날짜 기준)
+    public void deleteRepeatTodoAndFuture(User userId, int todoId, LocalDate date){
+        Todo todo = todoRepository.findTodoByUserIdAndId(userId, todoId)
+                .orElseThrow(() -> new IllegalArgumentException("NOT_FOUND_ERROR"));
+        validateCategory(userId, todo.getCategory().getId());
+        endRepeatBefore(todo, date);
+    }
+
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     // 반복 투두 삭제 로직 (모든 반복 투두)
     public void deleteAllRepeatTodos(User userId, int repeatTodoId){
-        RepeatTodo repeatTodo = repeatTodoRepository.findById(repeatTodoId)
-                .orElseThrow(() -> new IllegalArgumentException("NOT_FOUND_ERROR"));
-        validateCategoryId(repeatTodo.getTodoId().getCategory().getId());
+        RepeatTodo repeatTodo = lockRepeatTodo(repeatTodoId);
+        validateCategory(userId, repeatTodo.getTodoId().getCategory().getId());
         Todo todo = repeatTodo.getTodoId();
         User todoUser = todo.getUserId();
         if (todoUser.getId().equals(userId.getId())) {
-            List<RepeatTodo> allRepeatTodos = repeatTodoRepository.findAllByTodoId(todo);
-
-            for (RepeatTodo repeatTodos : allRepeatTodos) {
-                repeatTodos.setIsDeleted(true);
-                repeatTodoRepository.save(repeatTodos);
+            List<RepeatTodo> repeatTodos = repeatTodoRepository.readRepeatTodosByTodoId(todo);
+            TodoStatisticsRecorder.Snapshot before = todoStatisticsRecorder.snapshot(todo, repeatTodos);
+            repeatTodoRepository.softDeleteAllByTodo(todo, LocalDateTime.now());
+            // 회차가 조회 시점에 펼쳐지므로 대표 투두도 함께 삭제 처리
+            if (todoRepository.softDeleteTodo(todoUser, todo.getId(), LocalDateTime.now()) > 0) {
+                todoStatisticsRecorder.record(userId, before, new TodoStatisticsRecorder.Snapshot());
             }
         }
     }
 
     // 특정 유저 투두 조회 로직
-    public Map<String, Object> getUserTodo(User userId, LocalDate date) {
-        List<Todo> userTodos = todoRepository.findTodosByUserIdAndIsDeletedIsFalse(userId);
-        List<RepeatTodo> repeatTodos = repeatTodoRepository.findRepeatTodosByDateIsAndIsDeletedIsFalse(date);
-        List<RepeatTodoResponseDto> filteredRepeatTodos = new ArrayList<>();
-        List<TodoResponseDto> filteredTodos = new ArrayList<>();
-        Map<String, Object> map = new LinkedHashMap<>();
-        Map<String, Object> data = new LinkedHashMap<>();
-        for (Todo todo : userTodos){
-            if(todo.getDate()!= null && todo.getDate().equals(date) && todo.getRepeat().equals(Repeat.N) && !todo.getCategory().getIsDeleted()){
-                filteredTodos.add(TodoResponseDto.of(todo));
-            }
+    public DataResponse<UserTodoResponseDto> getUserTodo(User userId, LocalDate date) {
+        List<TodoResponseDto> userTodos = todoRepository.findUserTodosByDate(userId, date).stream()
+                .map(TodoResponseDto::of)
+                .collect(Collectors.toList());
+        List<RepeatTodoResponseDto> userRepeatTodos = repeatTodoExpander.expand(
+                        todoRepository.findUserRepeatTodosBetween(userId, date, date),
+                        repeatTodoRepository.findUserRepeatTodoExceptions(userId, date, date), date, date).stream()
+                .map(RepeatTodoResponseDto::of)
+                .collect(Collectors.toList());
+        return DataResponse.of(new UserTodoResponseDto(userId.getNickname(), userTodos, userRepeatTodos));
+   }
+
+   // 특정 유저 기간 투두 조회 로직 (주간, 월간 화면용 / 날짜별로 묶어서 반환)
+    public DataResponse<UserTodoRangeResponseDto> getUserTodoRange(User userId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("INVALID_DATE_RANGE");
         }
-        for (RepeatTodo repeatTodo : repeatTodos){
-            if(repeatTodo.getTodoId().getUserId() == userId && !repeatTodo.getTodoId().getCategory().getIsDeleted()){
-                filteredRepeatTodos.add(RepeatTodoResponseDto.of(repeatTodo));
-            }
+        Map<LocalDate, List<TodoResponseDto>> todosByDate = todoRepository.findUserTodosBetween(userId, from, to).stream()
+                .collect(Collectors.groupingBy(Todo::getDate, Collectors.mapping(TodoResponseDto::of, Collectors.toList())));
+        Map<LocalDate, List<RepeatTodoResponseDto>> repeatTodosByDate = repeatTodoExpander.expand(
+                        todoRepository.findUserRepeatTodosBetween(userId, from, to),
+                        repeatTodoRepository.findUserRepeatTodoExceptions(userId, from, to), from, to).stream()
+                .collect(Collectors.groupingBy(RepeatTodo::getDate, Collectors.mapping(RepeatTodoResponseDto::of, Collectors.toList())));
+
+        List<UserTodoRangeResponseDto.DayTodo> days = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            days.add(new UserTodoRangeResponseDto.DayTodo(date,
+                    todosByDate.getOrDefault(date, Collections.emptyList()),
+                    repeatTodosByDate.getOrDefault(date, Collections.emptyList())));
         }
-        data.put("nickname", userId.getNickname());
-        data.put("TodoList", filteredTodos);
-        data.put("RepeatTodoList", filteredRepeatTodos);
-        map.put("data", data);
-        return map;
-   }
+        return DataResponse.of(new UserTodoRangeResponseDto(userId.getNickname(), days));
+    }
 
    // 특정 유저 반복 투두 조회 로직
     public List<TodoResponseDto> getUserRepeatTodo(User userId){
@@ -299,64 +326,62 @@ public class TodoService {
                 .collect(Collectors.toList());
     }
 
-    // 반복 투두 생성 로직
-    public List<RepeatTodoResponseDto> createRepeatTodos(Todo todo) {
-        LocalDate startRepeatDate = todo.getStartRepeatDate();
-        LocalDate endRepeatDate = todo.getEndRepeatDate();
-
-        List<LocalDate> dates = new ArrayList<>();
-        List<RepeatTodo> repeatTodos = new ArrayList<>();
+    // 반복 투두의 전체 회차 조회 로직 (저장된 예외 행 반영)
+    private List<RepeatTodoResponseDto> getRepeatTodoOccurrences(Todo todo, List<RepeatTodo> exceptions) {
+        if (todo.getRepeat() == Repeat.N) {
+            return new ArrayList<>();
+        }
+        return repeatTodoExpander.expand(Collections.singletonList(todo), exceptions, todo.getStartRepeatDate(), todo.getEndRepeatDate()).stream()
+                .map(RepeatTodoResponseDto::of)
+                .collect(Collectors.toList());
+    }
 
-        if (todo.getRepeat() == Repeat.DAY){
-            while(!startRepeatDate.isAfter(endRepeatDate)){
-                dates.add(startRepeatDate);
-                startRepeatDate = startRepeatDate.plusDays(1);
-            }
+    // 대표 투두를 잠근 뒤 회차 행 조회 (findTodoByUserIdAndId와 같이 대표 투두 단위로 변경 전후 통계 계산을 직렬화한다)
+    // 잠그기 전에 ID를 조회하므로, 호출하는 트랜잭션은 잠근 뒤의 조회가 최신 커밋을 보도록 READ COMMITTED로 실행한다.
+    private RepeatTodo lockRepeatTodo(int repeatTodoId) {
+        int todoId = repeatTodoRepository.findTodoIdById(repeatTodoId)
+                .orElseThrow(() -> new IllegalArgumentException("NOT_FOUND_ERROR"));
+        todoRepository.findTodoForUpdateById(todoId)
+                .orElseThrow(() -> new IllegalArgumentException("NOT_FOUND_ERROR"));
+        return repeatTodoRepository.findRepeatTodoByIdAndDateIsNotNull(repeatTodoId)
+                .orElseThrow(() -> new IllegalArgumentException("NOT_FOUND_ERROR"));
+    }
 
-        } else if (todo.getRepeat() == Repeat.WEEK) {
-            int dayOfWeek = todo.getRepeatInfo();
-            startRepeatDate = startRepeatDate.with(TemporalAdjusters.nextOrSame(DayOfWeek.of(dayOfWeek)));
-            while (!startRepeatDate.isAfter(endRepeatDate)) {
-                dates.add(startRepeatDate);
-                startRepeatDate = startRepeatDate.plusWeeks(1);
-            }
-        } else if (todo.getRepeat() == Repeat.MONTH){
-            int dayOfMonth = todo.getRepeatInfo();
-            // 반복 시작일이 반복 종료일 이후인 경우 반복 중지
-            while (!startRepeatDate.isAfter(endRepeatDate) && !startRepeatDate.isBefore(todo.getStartRepeatDate())) {
-                if (dayOfMonth != 0) {
-                    // repeatInfo가 0이 아닌 경우
-                    int startDay = startRepeatDate.getDayOfMonth();
-
-                    if (dayOfMonth < startDay) {
-                        startRepeatDate = startRepeatDate.plusMonths(1).withDayOfMonth(dayOfMonth);
-                    } else {
-                        startRepeatDate = startRepeatDate.withDayOfMonth(dayOfMonth);
-                    }
-                } else {
-                    // repeatInfo가 0인 경우
-                    startRepeatDate = startRepeatDate.withDayOfMonth(startRepeatDate.lengthOfMonth());
-                }
-                dates.add(startRepeatDate);
-                startRepeatDate = startRepeatDate.plusMonths(1);
-            }
+    // 해당 날짜 회차의 예외 행 조회, 없으면 새 예외 행 생성
+    private RepeatTodo findOrCreateRepeatTodo(Todo todo, LocalDate date) {
+        if (todo.getIsDeleted() || !repeatTodoExpander.occursOn(todo, date)) {
+            throw new IllegalArgumentException("NOT_FOUND_ERROR");
         }
+        List<RepeatTodo> repeatTodos = repeatTodoRepository.findRepeatTodosByTodoIdAndDate(todo, date);
+        Optional<RepeatTodo> activeRepeatTodo = repeatTodos.stream().filter(repeatTodo -> !repeatTodo.getIsDeleted()).findFirst();
+        if (activeRepeatTodo.isPresent()) {
+            return activeRepeatTodo.get();
+        }
+        // 이미 삭제된 회차
+        if (!repeatTodos.isEmpty()) {
+            throw new IllegalArgumentException("NOT_FOUND_ERROR");
+        }
+        return new RepeatTodo(todo, date, false, false);
+    }
 
-        for (LocalDate date : dates){
-            RepeatTodo repeatTodo = RepeatTodo.builder()
-                    .todoId(todo)
-                    .date(date)
-                    .complete(false)
-                    .isDeleted(false)
-                    .build();
-            repeatTodoRepository.save(repeatTodo);
-            repeatTodos.add(repeatTodo);
+    // 해당 날짜부터 반복 종료 처리 (이후 예외 행은 삭제 처리)
+    private void endRepeatBefore(Todo todo, LocalDate date) {
+        // 반복 투두가 아니거나 해당 날짜에 회차가 없으면 거절한다. (반복 종료일 이후 날짜로 반복이 늘어나지 않도록)
+        if (todo.getIsDeleted() || todo.getRepeat() == null || todo.getRepeat() == Repeat.N || !repeatTodoExpander.occursOn(todo, date)) {
+            throw new IllegalArgumentException("NOT_FOUND_ERROR");
         }
-        List<RepeatTodoResponseDto> result = new ArrayList<>();
-        for(RepeatTodo repeatTodo: repeatTodos){
-            result.add(repeatTodoToDto(repeatTodo));
+        // 해당 날짜 이후 회차만큼 통계에서 뺀다.
+        TodoStatisticsRecorder.Snapshot removed = todoStatisticsRecorder.snapshotFrom(todo, repeatTodoRepository.readRepeatTodosByTodoId(todo), date);
+        todoStatisticsRecorder.record(todo.getUserId(), removed, new TodoStatisticsRecorder.Snapshot());
+        LocalDateTime now = LocalDateTime.now();
+        repeatTodoRepository.softDeleteAllByTodoFrom(todo, date, now);
+
+        LocalDate endRepeatDate = date.minusDays(1).isBefore(todo.getEndRepeatDate()) ? date.minusDays(1) : todo.getEndRepeatDate();
+        if (endRepeatDate.isBefore(todo.getStartRepeatDate())) {
+            todoRepository.softDeleteTodo(todo.getUserId(), todo.getId(), now);
+        } else {
+            todoRepository.updateEndRepeatDate(todo.getId(), endRepeatDate, now);
         }
-        return result;
     }
 
     // 투두 이름 유효성 검사 메서드
@@ -368,31 +393,21 @@ public class TodoService {
 
     // 유저 ID 유효성 검사 메서드
     private void validateUserId(User userId) {
-        Optional<User> optionalUser = userRepository.findUserById(userId.getId());
-        if (optionalUser.isEmpty()) {
+        // 유저는 LoginUserArgumentResolver에서 요청당 한 번 조회되므로 다시 조회하지 않는다.
+        if (userId == null || userId.getId() == null) {
             throw new IllegalArgumentException("존재하지 않는 유저 ID입니다.");
         }
     }
 
     // 카테고리 ID 유효성 검사 메서드
-    private void validateCategoryId(int categoryId) {
-        Optional<Category> optionalCategory = categoryRepository.findById(categoryId);
-        if (optionalCategory.isEmpty()) {
-            throw new IllegalArgumentException("존재하지 않는 카테고리 ID입니다.");
-        }
-        Category category = optionalCategory.get();
+    private Category validateCategory(User user, int categoryId) {
+        // 유저별 카테고리 캐시에서 조회 (카테고리 변경 시 CategoryService에서 비움)
+        Category category = categoryCache.find(user, categoryId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카테고리 ID입니다."));
         if (category.getIsInActive()) {
             throw new IllegalArgumentException("종료된 카테고리에는 투두를 생성,수정,삭제할 수 없습니다.");
         }
-    }
-
-    public RepeatTodoResponseDto repeatTodoToDto(RepeatTodo repeatTodo){
-        return RepeatTodoResponseDto.builder()
-                .id(repeatTodo.getId())
-                .todoId(repeatTodo.getTodoId().getId())
-                .date(repeatTodo.getDate())
-                .complete(repeatTodo.getComplete())
-                .build();
+        return category;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.umc.mada.todo.service;
+
+import com.umc.mada.todo.repository.RepeatTodoRepository;
+import com.umc.mada.todo.repository.TodoRepository;
+import com.umc.mada.user.domain.User;
+import com.umc.mada.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 투두로 일별 통계(TODO_DAILY_STATISTICS)를 채우는 일회성 작업
+ * 배포 시 statistics.backfill=true로 한 번 실행한다. 이후에는 TodoStatisticsRecorder가 증분 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "statistics.backfill", havingValue = "true")
+public class TodoStatisticsBackfill implements ApplicationRunner {
+    private static final int PAGE_SIZE = 100;
+
+    private final UserRepository userRepository;
+    private final TodoRepository todoRepository;
+    private final RepeatTodoRepository repeatTodoRepository;
+    private final TodoStatisticsRecorder todoStatisticsRecorder;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Page<User> users;
+        int page = 0;
+        do {
+            users = userRepository.findAll(PageRequest.of(page++, PAGE_SIZE, Sort.by("id")));
+            for (User user : users) {
+                // 유저 단위 트랜잭션으로 재계산 (유저별 행을 지우고 다시 채운다)
+                todoStatisticsRecorder.rebuild(user,
+                        todoRepository.findTodosByUserIdAndIsDeletedIsFalse(user),
+                        repeatTodoRepository.findAllByUser(user));
+            }
+        } while (users.hasNext());
+    }
+}
@@ -0,0 +1,181 @@
+package com.umc.mada.todo.service;
+
+import com.umc.mada.todo.domain.Repeat;
+import com.umc.mada.todo.domain.RepeatTodo;
+import com.umc.mada.todo.domain.Todo;
+import com.umc.mada.todo.repository.TodoDailyStatisticsRepository;
+import com.umc.mada.todo.repository.statistics.DailyStatisticsDelta;
+import com.umc.mada.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 투두 일별 통계(TODO_DAILY_STATISTICS) 증분 반영
+ * 변경 전후 투두가 통계에 기여하는 값(Snapshot)의 차이만 날짜, 카테고리별로 더한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoStatisticsRecorder {
+    private final TodoDailyStatisticsRepository todoDailyStatisticsRepository;
+    private final RepeatTodoExpander repeatTodoExpander;
+    private final StatisticsCache statisticsCache;
+    private final TodoStreakTracker todoStreakTracker;
+
+    // 투두 하나가 통계에 기여하는 값 (삭제된 투두는 비어 있다)
+    public Snapshot snapshot(Todo todo, List<RepeatTodo> exceptions) {
+        return snapshotFrom(todo, exceptions, null);
+    }
+
+    // 해당 날짜 이후 회차만의 기여 값 (반복 종료 처리 시)
+    public Snapshot snapshotFrom(Todo todo, List<RepeatTodo> exceptions, LocalDate from) {
+        Snapshot snapshot = new Snapshot();
+        if (todo.getIsDeleted()) {
+            return snapshot;
+        }
+        int categoryId = todo.getCategory().getId();
+        if (todo.getRepeat() == Repeat.N) {
+            if (todo.getDate() != null && (from == null || !todo.getDate().isBefore(from))) {
+                snapshot.add(todo.getDate(), categoryId, 1, todo.getComplete() ? 1 : 0);
+            }
+            return snapshot;
+        }
+        if (todo.getStartRepeatDate() == null || todo.getEndRepeatDate() == null) {
+            return snapshot;
+        }
+        LocalDate start = from != null && from.isAfter(todo.getStartRepeatDate()) ? from : todo.getStartRepeatDate();
+        for (RepeatTodo occurrence : repeatTodoExpander.expand(Collections.singletonList(todo), exceptions, start, todo.getEndRepeatDate())) {
+            snapshot.add(occurrence.getDate(), categoryId, 1, occurrence.getComplete() ? 1 : 0);
+        }
+        return snapshot;
+    }
+
+    // 변경 전후 차이 반영
+    @Transactional
+    public void record(User user, Snapshot before, Snapshot after) {
+        apply(user, after.minus(before));
+    }
+
+    // 투두 생성
+    @Transactional
+    public void added(User user, Todo todo) {
+        record(user, new Snapshot(), snapshot(todo, Collections.emptyList()));
+    }
+
+    // 투두 삭제 (반복 투두는 예외 행 반영)
+    @Transactional
+    public void removed(User user, Todo todo, List<RepeatTodo> exceptions) {
+        record(user, snapshot(todo, exceptions), new Snapshot());
+    }
+
+    // 반복 투두 회차 하나의 완료, 삭제 여부 변경
+    @Transactional
+    public void occurrenceChanged(User user, Todo todo, LocalDate date, boolean completeBefore, boolean deletedBefore, boolean completeAfter, boolean deletedAfter) {
+        if (todo.getIsDeleted() || !repeatTodoExpander.occursOn(todo, date)) {
+            return;
+        }
+        int total = (deletedAfter ? 0 : 1) - (deletedBefore ? 0 : 1);
+        int completed = (!deletedAfter && completeAfter ? 1 : 0) - (!deletedBefore && completeBefore ? 1 : 0);
+        if (total != 0 || completed != 0) {
+            apply(user, Collections.singletonList(new DailyStatisticsDelta(date, todo.getCategory().getId(), total, completed)));
+        }
+    }
+
+    // 카테고리 삭제 (소속 투두가 모두 삭제된다)
+    @Transactional
+    public void categoryDeleted(User user, int categoryId) {
+        todoDailyStatisticsRepository.deleteAllByUserAndCategoryId(user, categoryId);
+        todoStreakTracker.rebuild(user);
+        statisticsCache.evictAll(user);
+    }
+
+    // 유저의 일별 통계를 투두, 예외 행으로부터 다시 계산
+    @Transactional
+    public void rebuild(User user, List<Todo> todos, List<RepeatTodo> exceptions) {
+        Snapshot snapshot = new Snapshot();
+        for (Todo todo : todos) {
+            snapshot.addAll(snapshot(todo, exceptions));
+        }
+        todoDailyStatisticsRepository.deleteAllByUser(user);
+        todoDailyStatisticsRepository.upsertAll(user.getId(), snapshot.minus(new Snapshot()));
+        todoStreakTracker.rebuild(user);
+        statisticsCache.evictAll(user);
+    }
+
+    // 일별 통계 증감 후 연속 완료 기록 갱신, 바뀐 날짜가 포함된 통계 캐시 삭제
+    private void apply(User user, List<DailyStatisticsDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        todoDailyStatisticsRepository.upsertAll(user.getId(), deltas);
+        Set<LocalDate> dates = new HashSet<>();
+        Set<LocalDate> completedDates = new HashSet<>();
+        for (DailyStatisticsDelta delta : deltas) {
+            dates.add(delta.getDate());
+            if (delta.getCompletedCount() != 0) {
+                completedDates.add(delta.getDate());
+            }
+        }
+        todoStreakTracker.completionChanged(user, completedDates);
+        statisticsCache.evict(user, dates);
+    }
+
+    /**
+     * 날짜, 카테고리별 전체/완료 투두 수
+     */
+    public static class Snapshot {
+        private final Map<Key, int[]> counts = new HashMap<>();
+
+        private void add(LocalDate date, int categoryId, int total, int completed) {
+            int[] count = counts.computeIfAbsent(new Key(date, categoryId), key -> new int[2]);
+            count[0] += total;
+            count[1] += completed;
+        }
+
+        private void addAll(Snapshot other) {
+            other.counts.forEach((key, count) -> add(key.date, key.categoryId, count[0], count[1]));
+        }
+
+        // this - other 중 0이 아닌 값만 반환
+        private List<DailyStatisticsDelta> minus(Snapshot other) {
+            Set<Key> keys = new HashSet<>(counts.keySet());
+            keys.addAll(other.counts.keySet());
+
+            List<DailyStatisticsDelta> deltas = new ArrayList<>();
+            for (Key key : keys) {
+                int[] after = counts.getOrDefault(key, new int[2]);
+                int[] before = other.counts.getOrDefault(key, new int[2]);
+                if (after[0] != before[0] || after[1] != before[1]) {
+                    deltas.add(new DailyStatisticsDelta(key.date, key.categoryId, after[0] - before[0], after[1] - before[1]));
+                }
+            }
+            return deltas;
+        }
+    }
+
+    private static class Key {
+        private final LocalDate date;
+        private final int categoryId;
+
+        private Key(LocalDate date, int categoryId) {
+            this.date = date;
+            this.categoryId = categoryId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return categoryId == key.categoryId && date.equals(key.date);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(date, categoryId);
+        }
+    }
+}
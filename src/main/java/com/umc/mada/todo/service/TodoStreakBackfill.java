@@ -0,0 +1,38 @@
+package com.umc.mada.todo.service;
+
+import com.umc.mada.user.domain.User;
+import com.umc.mada.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일별 통계로 기존 유저의 연속 완료 기록(TODO_STREAK)을 채우는 일회성 작업
+ * 배포 시 statistics.streak-backfill=true로 한 번 실행한다. (statistics.backfill 실행 시에는 함께 계산되므로 필요 없다)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "statistics.streak-backfill", havingValue = "true")
+public class TodoStreakBackfill implements ApplicationRunner {
+    private static final int PAGE_SIZE = 100;
+
+    private final UserRepository userRepository;
+    private final TodoStreakTracker todoStreakTracker;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Page<User> users;
+        int page = 0;
+        do {
+            users = userRepository.findAll(PageRequest.of(page++, PAGE_SIZE, Sort.by("id")));
+            for (User user : users) {
+                todoStreakTracker.rebuild(user);
+            }
+        } while (users.hasNext());
+    }
+}
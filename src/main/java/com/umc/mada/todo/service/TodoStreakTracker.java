@@ -0,0 +1,165 @@
+package com.umc.mada.todo.service;
+
+import com.umc.mada.todo.domain.TodoStreak;
+import com.umc.mada.todo.dto.TodoStreakResponseDto;
+import com.umc.mada.todo.repository.TodoDailyStatisticsRepository;
+import com.umc.mada.todo.repository.TodoStreakRepository;
+import com.umc.mada.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 투두 연속 완료 기록 증분 반영
+ * 완료 여부가 바뀐 날짜 하나는 일별 통계를 월 단위로 읽어 그 날짜가 속한 구간만 다시 계산한다.
+ * 가장 긴 구간이 끊기거나 여러 날짜가 한 번에 바뀌면 일별 통계의 완료 날짜로 전체를 다시 계산한다.
+ * 오늘 이후 날짜는 구간에 넣지 않고, 그 날짜가 지난 뒤 조회할 때 다시 계산한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoStreakTracker {
+    private final TodoStreakRepository todoStreakRepository;
+    private final TodoDailyStatisticsRepository todoDailyStatisticsRepository;
+
+    @Transactional
+    public TodoStreakResponseDto find(User user) {
+        LocalDate today = LocalDate.now();
+        TodoStreak streak = todoStreakRepository.findByUserId(user).orElse(null);
+        if (streak == null) {
+            return TodoStreakResponseDto.of(0, 0);
+        }
+        if (streak.getUpdatedAt() != null && streak.getUpdatedAt().toLocalDate().isBefore(today)) {
+            // 마지막 계산 이후 지나간 날짜 중 미리 완료해 둔 날이 있으면 다시 계산
+            LocalDate last = todoDailyStatisticsRepository.findLastCompletedDateBefore(user, today.plusDays(1));
+            if (last != null && (streak.getLatestEnd() == null || last.isAfter(streak.getLatestEnd()))) {
+                streak.rebuild(todoDailyStatisticsRepository.findCompletedDatesUntil(user, today), today);
+            }
+        }
+        return TodoStreakResponseDto.of(streak.getCurrentStreak(today), streak.getLongestStreak());
+    }
+
+    // 완료한 투두 수가 바뀐 날짜 반영 (일별 통계 반영 이후 호출)
+    @Transactional
+    public void completionChanged(User user, Collection<LocalDate> changedDates) {
+        LocalDate today = LocalDate.now();
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date : changedDates) {
+            if (!date.isAfter(today)) {
+                dates.add(date);
+            }
+        }
+        if (dates.isEmpty()) {
+            return;
+        }
+        TodoStreak streak = todoStreakRepository.findByUserId(user).orElse(null);
+        if (streak == null || dates.size() > 1) {
+            rebuild(user);
+            return;
+        }
+
+        LocalDate date = dates.get(0);
+        CompletedDays completedDays = new CompletedDays(user, today);
+        if (completedDays.contains(date)) {
+            // 앞뒤 구간과 이어 붙인다.
+            LocalDate start = completedDays.runStart(date);
+            LocalDate end = completedDays.runEnd(date);
+            if (streak.getLatestEnd() == null || !end.isBefore(streak.getLatestEnd())) {
+                streak.updateLatest(start, end);
+            }
+            if (length(start, end) > streak.getLongestStreak()) {
+                streak.updateLongest(start, end);
+            }
+        } else {
+            if (streak.isLongest(date)) {
+                // 다른 구간이 가장 길어질 수 있으므로 전체 재계산
+                rebuild(user);
+                return;
+            }
+            if (streak.isLatest(date)) {
+                splitLatest(user, streak, date, completedDays);
+            }
+        }
+        todoStreakRepository.save(streak);
+    }
+
+    // 유저의 연속 완료 기록을 일별 통계로부터 다시 계산
+    @Transactional
+    public void rebuild(User user) {
+        LocalDate today = LocalDate.now();
+        TodoStreak streak = todoStreakRepository.findByUserId(user).orElseGet(() -> new TodoStreak(user));
+        streak.rebuild(todoDailyStatisticsRepository.findCompletedDatesUntil(user, today), today);
+        if (streak.getId() == null) {
+            // 첫 기록은 동시에 만들어질 수 있으므로 유니크 키 충돌 시 덮어쓴다.
+            todoStreakRepository.upsert(user.getId(), streak);
+        } else {
+            todoStreakRepository.save(streak);
+        }
+    }
+
+    // 가장 최근 구간 중간(또는 끝)의 날짜가 완료 취소된 경우
+    private void splitLatest(User user, TodoStreak streak, LocalDate date, CompletedDays completedDays) {
+        if (date.isBefore(streak.getLatestEnd())) {
+            streak.updateLatest(date.plusDays(1), streak.getLatestEnd());
+        } else if (date.isAfter(streak.getLatestStart())) {
+            streak.updateLatest(streak.getLatestStart(), date.minusDays(1));
+        } else {
+            // 하루짜리 구간이 사라지면 그 이전에 마지막으로 완료한 날의 구간
+            LocalDate last = todoDailyStatisticsRepository.findLastCompletedDateBefore(user, date);
+            streak.updateLatest(last == null ? null : completedDays.runStart(last), last);
+        }
+    }
+
+    private static int length(LocalDate start, LocalDate end) {
+        return (int) ChronoUnit.DAYS.between(start, end) + 1;
+    }
+
+    /**
+     * 일별 통계로 완료한 날 조회 (한 번 읽은 월은 재사용, today 이후 날짜는 완료하지 않은 날로 본다)
+     */
+    private class CompletedDays {
+        private final User user;
+        private final LocalDate today;
+        private final Map<YearMonth, Set<LocalDate>> months = new HashMap<>();
+
+        private CompletedDays(User user, LocalDate today) {
+            this.user = user;
+            this.today = today;
+        }
+
+        private boolean contains(LocalDate date) {
+            if (date.isAfter(today)) {
+                return false;
+            }
+            return months.computeIfAbsent(YearMonth.from(date), month -> new HashSet<>(
+                    todoDailyStatisticsRepository.findCompletedDatesBetween(user, month.atDay(1), month.atEndOfMonth())))
+                    .contains(date);
+        }
+
+        private LocalDate runStart(LocalDate date) {
+            LocalDate start = date;
+            while (contains(start.minusDays(1))) {
+                start = start.minusDays(1);
+            }
+            return start;
+        }
+
+        private LocalDate runEnd(LocalDate date) {
+            LocalDate end = date;
+            while (contains(end.plusDays(1))) {
+                end = end.plusDays(1);
+            }
+            return end;
+        }
+    }
+}
@@ -3,14 +3,18 @@ package com.umc.mada.user.controller;
 import com.umc.mada.timetable.domain.Timetable;
 import com.umc.mada.todo.domain.Todo;
 import com.umc.mada.todo.dto.TodoStatisticsRequestDto;
+import com.umc.mada.todo.dto.TodoStatisticsResponseDto;
+import com.umc.mada.todo.service.StatisticsCache;
 import com.umc.mada.todo.service.TodoService;
+import com.umc.mada.todo.service.TodoStreakTracker;
+import com.umc.mada.auth.resolver.LoginUser;
 import com.umc.mada.user.domain.User;
 import com.umc.mada.user.dto.nickname.NicknameRequestDto;
-import com.umc.mada.user.repository.UserRepository;
 import com.umc.mada.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -32,18 +36,19 @@ import java.util.*;
 public class UserController {
     private final UserService userService;
     private final TodoService todoService;
-    private final UserRepository userRepository;
     private final TodoRepository todoRepository;
     private final TimetableRepository timetableRepository;
-
+    private final StatisticsCache statisticsCache;
+    private final TodoStreakTracker todoStreakTracker;
 
     @Autowired
-    public UserController(UserService userService, TodoService todoService, UserRepository userRepository, TodoRepository todoRepository, TimetableRepository timetableRepository){
+    public UserController(UserService userService, TodoService todoService, TodoRepository todoRepository, TimetableRepository timetableRepository, StatisticsCache statisticsCache, TodoStreakTracker todoStreakTracker){
         this.userService = userService;
         this.todoService = todoService;
-        this.userRepository = userRepository;
         this.todoRepository = todoRepository;
         this.timetableRepository = timetableRepository;
+        this.statisticsCache = statisticsCache;
+        this.todoStreakTracker = todoStreakTracker;
     }
 
     @GetMapping("/test")
@@ -86,9 +91,8 @@ public class UserController {
 
     @Operation(description = "회원가입한 유저가 닉네임 입력하는 곳")
     @PostMapping("/signup/nickName")
-    public ResponseEntity<String> signupNickname(@RequestBody Map<String, String> nickname, Authentication authentication) {
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        userService.setNickname(nickname, userOptional.get());
+    public ResponseEntity<String> signupNickname(@RequestBody Map<String, String> nickname, @LoginUser User user) {
+        userService.setNickname(nickname, user);
 //        return ResponseEntity.status(HttpStatus.OK).body("닉네임 입력 성공했습니다.");
         return ResponseEntity.ok().build();
     }
@@ -103,10 +107,9 @@ public class UserController {
 
     @Operation(description = "회원탈퇴")
     @DeleteMapping("/withdrawal")
-    public ResponseEntity<String> userRemove (Authentication authentication){ //@AuthenticationPrincipal CusomtUserDetails cusomtUserDetails
+    public ResponseEntity<String> userRemove (@LoginUser User user){ //@AuthenticationPrincipal CusomtUserDetails cusomtUserDetails
 //        User user = cusomtUserDetails.getUser();
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        userService.removeUser(userOptional.get());
+        userService.removeUser(user);
         return ResponseEntity.ok().build();
     }
 
@@ -114,9 +117,11 @@ public class UserController {
      * 프로필 편집창 API
      */
     @GetMapping("/profile/change")
-    public ResponseEntity<Map<String, Object>>userProfileList(Authentication authentication) {
+    public ResponseEntity<Map<String, Object>>userProfileList(@LoginUser User user) {
+        Map<String, Object> data = new HashMap<>(userService.findUserProfile(user));
+        data.put("streak", todoStreakTracker.find(user));
         Map<String, Object> map = new HashMap<>();
-        map.put("data", userService.findUserProfile(authentication));
+        map.put("data", data);
         return ResponseEntity.ok(map);
     }
 
@@ -124,10 +129,8 @@ public class UserController {
      * 닉네임 변경 API
      */
     @PatchMapping("/profile/change/nickname")
-    public ResponseEntity<Map<String, Object>>nicknameModify(Authentication authentication,
+    public ResponseEntity<Map<String, Object>>nicknameModify(@LoginUser User user,
                                                              @Validated @RequestBody NicknameRequestDto changeNicknameRequestDto) {
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
         Map<String, Object> map = new HashMap<>();
         map.put("data", userService.modifyNickname(user, changeNicknameRequestDto));
 //        if(bindingResult.hasErrors()){
@@ -138,16 +141,16 @@ public class UserController {
     }
 
     @PatchMapping("/attendance")
-    public ResponseEntity<Map<String, Object>>attendanceCount(Authentication authentication) {
+    public ResponseEntity<Map<String, Object>>attendanceCount(@LoginUser User user) {
         Map<String, Object> map = new HashMap<>();
-        map.put("data", userService.calcAttendance(authentication));
+        map.put("data", userService.calcAttendance(user));
         return ResponseEntity.ok(map);
     }
 
     @GetMapping("/attendance/total")
-    public ResponseEntity<Map<String, Object>>totalAttendanceCount(Authentication authentication) {
+    public ResponseEntity<Map<String, Object>>totalAttendanceCount(@LoginUser User user) {
         Map<String, Object> map = new HashMap<>();
-        map.put("data", userService.findAttendanceCount(authentication));
+        map.put("data", userService.findAttendanceCount(user));
         return ResponseEntity.ok(map);
     }
 
@@ -155,10 +158,10 @@ public class UserController {
      * 구독 설정 API
      */
     @PatchMapping("/subscribe")
-    public ResponseEntity<Void> subscribeToggleSave(Authentication authentication,@RequestBody Map<String,Boolean> is_subscribe){
+    public ResponseEntity<Void> subscribeToggleSave(@LoginUser User user,@RequestBody Map<String,Boolean> is_subscribe){
 //        Map<String,Object> map = new HashMap<>();
-//        map.put("data",new HashMap<>().put("is_subscribe",userService.userSubscribeSettings(authentication,is_subscribe)));
-        userService.isSubscribe(authentication,is_subscribe);
+//        map.put("data",new HashMap<>().put("is_subscribe",userService.userSubscribeSettings(user,is_subscribe)));
+        userService.isSubscribe(user,is_subscribe);
         return ResponseEntity.ok().build();
     }
 
@@ -166,25 +169,25 @@ public class UserController {
      * 화면 설정 API
      */
     @PostMapping("/display/change")
-    public ResponseEntity<Map<String,Object>> displayToggleSave(Authentication authentication, @RequestBody Map<String,Boolean> map) {
-        return ResponseEntity.ok(userService.saveUserPageSet(authentication, map));
+    public ResponseEntity<Map<String,Object>> displayToggleSave(@LoginUser User user, @RequestBody Map<String,Boolean> map) {
+        return ResponseEntity.ok(userService.saveUserPageSet(user, map));
     }
 
     /**
      * 알림 설정 API
      */
     @PatchMapping("/alarm/change")
-    public ResponseEntity<Map<String, Object>> alarmToggleSave(Authentication authentication, @RequestBody Map<String, Boolean> map) {
-        return ResponseEntity.ok(userService.saveUserAlarmSet(authentication, map));
+    public ResponseEntity<Map<String, Object>> alarmToggleSave(@LoginUser User user, @RequestBody Map<String, Boolean> map) {
+        return ResponseEntity.ok(userService.saveUserAlarmSet(user, map));
     }
 
     /**
      * 화면 설정 조회 API
      */
     @GetMapping("/display")
-    public ResponseEntity<Map<String, Object>> displayToggleList(Authentication authentication) {
+    public ResponseEntity<Map<String, Object>> displayToggleList(@LoginUser User user) {
         Map<String, Object> map = new HashMap<>();
-        map.put("data", userService.findUserPageSet(authentication));
+        map.put("data", userService.findUserPageSet(user));
         return ResponseEntity.ok(map);
     }
 
@@ -192,9 +195,9 @@ public class UserController {
      * 알람 설정 조회 API
      */
     @GetMapping("/alarm")
-    public ResponseEntity<Map<String, Object>> alarmToggleList(Authentication authentication) {
+    public ResponseEntity<Map<String, Object>> alarmToggleList(@LoginUser User user) {
         Map<String, Object> map = new HashMap<>();
-        map.put("data", userService.findUserAlarmSet(authentication));
+        map.put("data", userService.findUserAlarmSet(user));
         return ResponseEntity.ok(map);
     }
 
@@ -202,9 +205,7 @@ public class UserController {
      * 투두 일별 통계 API
      */
     @GetMapping("/statistics/day/{date}")
-    public ResponseEntity<Map<String, Object>> findDailyTodoAndTimetableAvg(Authentication authentication, @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date){
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
+    public ResponseEntity<Map<String, Object>> findDailyTodoAndTimetableAvg(@LoginUser User user, @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date){
         List<Todo> todos = todoRepository.findTodosByUserIdAndDateIs(user, date);
         List<Timetable> timetables = timetableRepository.findTimetablesByUserIdAndDateIs(user, date);
 
@@ -241,15 +242,21 @@ public class UserController {
      * 투두 통계 API
      */
     @PostMapping("/statistics")
-    public ResponseEntity<Map<String, Object>> userTodoAvg(Authentication authentication, @RequestBody TodoStatisticsRequestDto todoStatisticsRequestDto) {
-        Optional<User> userOptional = userRepository.findByAuthId(authentication.getName());
-        User user = userOptional.get();
+    public ResponseEntity<Map<String, Object>> userTodoAvg(@LoginUser User user, @RequestBody TodoStatisticsRequestDto todoStatisticsRequestDto,
+                                                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        StatisticsCache.Period period = "week".equals(todoStatisticsRequestDto.getOption()) ? StatisticsCache.Period.AVERAGE_WEEK : StatisticsCache.Period.AVERAGE_MONTH;
+        StatisticsCache.Cached<TodoStatisticsResponseDto> cached = statisticsCache.get(user, period, todoStatisticsRequestDto.getDate(),
+                () -> todoService.calcTodoAverage(user, todoStatisticsRequestDto));
+        // POST라서 checkNotModified(412 처리) 대신 직접 비교
+        if (cached.getEtag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(cached.getEtag()).build();
+        }
         Map<String,Object> map = new LinkedHashMap<>();
 //        Map<String,Object> data = new LinkedHashMap<>();
 //        data.put("average", todoService.calcTodoAverage(user,todoAverageRequestDto));
 //        TodoAverageResponseDto todoAverageResponseDto = todoService.calcTodoAverage(user,todoAverageRequestDto);
 //        TodoRepository.statisticsVO = todoService.calcTodoAverage(user,todoAverageRequestDto);
-        map.put("data", todoService.calcTodoAverage(user, todoStatisticsRequestDto));
-        return ResponseEntity.ok().body(map);
+        map.put("data", cached.getValue());
+        return ResponseEntity.ok().eTag(cached.getEtag()).body(map);
     }
 }
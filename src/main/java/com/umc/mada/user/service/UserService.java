@@ -1,5 +1,6 @@
 package com.umc.mada.user.service;
 
+import com.umc.mada.todo.service.StatisticsCache;
 import com.umc.mada.user.domain.User;
 import com.umc.mada.user.dto.nickname.NicknameRequestDto;
 import com.umc.mada.user.dto.nickname.NicknameResponseDto;
@@ -7,35 +8,35 @@ import com.umc.mada.user.dto.user.UserRequestDto;
 import com.umc.mada.user.dto.user.UserResponseDto;
 import com.umc.mada.user.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 
 import javax.transaction.Transactional;
 
 @Service
 public class UserService {
     private final UserRepository userRepository;
+    private final StatisticsCache statisticsCache;
 
     @Autowired
-    public UserService(UserRepository userRepository){
+    public UserService(UserRepository userRepository, StatisticsCache statisticsCache){
         this.userRepository = userRepository;
+        this.statisticsCache = statisticsCache;
     }
 
     public User update(Long id, UserRequestDto.UpdateNickname request){
         User user = userRepository.findById(id).get();
         user.updateNickname(request.getNickname());
         userRepository.save(user);
+        statisticsCache.evictAll(user); // 투두 통계 응답에 닉네임이 들어있다.
 
         return user;
     }
 
-    public Map<String, String> findUserProfile(Authentication authentication) {
-        User user = getUser(authentication);
+    public Map<String, String> findUserProfile(User user) {
         Map<String, String> userProfile = new HashMap<>();
         userProfile.put("nickname", user.getNickname());
         userProfile.put("email", user.getEmail());
@@ -47,29 +48,28 @@ public class UserService {
         User user = userRepository.findById(userAccount.getId()).get();
         user.updateNickname(changeNicknameRequestDto.getNickname());
         userRepository.save(user);
+        statisticsCache.evictAll(user);
         return NicknameResponseDto.of(changeNicknameRequestDto.getNickname());
     }
 
-    public Boolean isSubscribe(Authentication authentication, Map<String,Boolean> is_subscribe) {
-        User user = this.getUser(authentication);
+    public Boolean isSubscribe(User user, Map<String,Boolean> is_subscribe) {
         user.updateSubscribe(is_subscribe.get("is_subscribe"));
         userRepository.save(user);
         return user.getSubscribe();
     }
 
-    public Map<String, Object> saveUserPageSet(Authentication authentication, Map<String, Boolean> map) {
-        User user = this.getUser(authentication);
+    public Map<String, Object> saveUserPageSet(User user, Map<String, Boolean> map) {
         user.updatePageSetting(map.get("endTodoBackSetting"), map.get("newTodoStartSetting"), map.get("startTodoAtMonday"));
         Map<String, Object> userPageInfos = new HashMap<>();
         userPageInfos.put("endTodoBackSetting",user.isEndTodoBackSetting());
         userPageInfos.put("newTodoStartSetting",user.isNewTodoStartSetting());
         userPageInfos.put("startTodoAtMonday",user.isStartTodoAtMonday());
         userRepository.save(user);
+        statisticsCache.evictAll(user); // 주간 통계는 시작 요일 설정을 따른다.
         return userPageInfos;
     }
 
-    public Map<String, Object> saveUserAlarmSet(Authentication authentication, Map<String, Boolean>map) {
-        User user = this.getUser(authentication);
+    public Map<String, Object> saveUserAlarmSet(User user, Map<String, Boolean>map) {
         user.updateAlarmSetting(map.get("calendarAlarmSetting"), map.get("dDayAlarmSetting"), map.get("timetableAlarmSetting"));
         Map<String, Object> userAlarmInfos = new HashMap<>();
         userAlarmInfos.put("calendarAlarmSetting", user.isCalendarAlarmSetting());
@@ -79,8 +79,7 @@ public class UserService {
         return userAlarmInfos;
     }
 
-    public Map<String, Object> findUserPageSet(Authentication authentication) {
-        User user = this.getUser(authentication);
+    public Map<String, Object> findUserPageSet(User user) {
         Map<String, Object> pageSet = new HashMap<>();
         pageSet.put("endTodoBackSetting", user.isEndTodoBackSetting());
         pageSet.put("startTodoAtMonday", user.isStartTodoAtMonday());
@@ -88,8 +87,7 @@ public class UserService {
         return pageSet;
     }
 
-    public Map<String, Object> findUserAlarmSet(Authentication authentication) {
-        User user = this.getUser(authentication);
+    public Map<String, Object> findUserAlarmSet(User user) {
         Map<String, Object> alarmSet = new HashMap<>();
         alarmSet.put("calendarAlarmSetting", user.isCalendarAlarmSetting());
         alarmSet.put("dDayAlarmSetting", user.isDDayAlarmSetting());
@@ -99,18 +97,17 @@ public class UserService {
 
     public void setNickname (Map<String, String> nickname, User user) {
         userRepository.save(user.setNickname(nickname.get("nickname")));
+        statisticsCache.evictAll(user);
     }
 
-    public int calcAttendance(Authentication authentication) {
-        User user = this.getUser(authentication);
+    public int calcAttendance(User user) {
         int attendanceCount = user.getAttendanceCount() + 1;
         user.setAttendanceCount(attendanceCount);
         userRepository.save(user);
         return attendanceCount;
     }
 
-    public int findAttendanceCount(Authentication authentication) {
-        User user = this.getUser(authentication);
+    public int findAttendanceCount(User user) {
         int totalAttendanceCount = user.getAttendanceCount();
         return totalAttendanceCount;
     }
@@ -118,9 +115,4 @@ public class UserService {
     public void removeUser(User user){
         userRepository.save(user.expiredUserUpdate());
     }
-
-    private User getUser(Authentication authentication){
-        Optional<User> optionalUser = userRepository.findByAuthId(authentication.getName());
-        return optionalUser.get();
-    }
 }
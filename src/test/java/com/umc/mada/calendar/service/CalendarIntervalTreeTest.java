@@ -0,0 +1,91 @@
+package com.umc.mada.calendar.service;
+
+import com.umc.mada.calendar.dto.CalendarResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CalendarIntervalTreeTest {
+    private static final LocalDate BASE = LocalDate.of(2023, 1, 1);
+
+    @DisplayName("기간과 겹치는 일정만 시작일, id 순으로 찾는다")
+    @Test
+    public void overlapping(){
+        CalendarIntervalTree tree = new CalendarIntervalTree(List.of(
+                calendar(1L, "2023-01-10", "2023-01-20"),
+                calendar(2L, "2022-12-30", "2023-01-02"),
+                calendar(3L, "2023-02-01", "2023-02-01"),
+                calendar(4L, "2023-01-10", "2023-01-10")));
+
+        assertEquals(List.of(2L), ids(tree.overlapping(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 1))));
+        assertEquals(List.of(2L, 1L, 4L), ids(tree.overlapping(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 31))));
+        assertEquals(List.of(1L), ids(tree.overlapping(LocalDate.of(2023, 1, 15), LocalDate.of(2023, 1, 15))));
+    }
+
+    @DisplayName("수정, 만료, 삭제가 트리에 바로 반영된다")
+    @Test
+    public void updateInPlace(){
+        CalendarIntervalTree tree = new CalendarIntervalTree(List.of(
+                calendar(1L, "2023-01-10", "2023-01-20"),
+                calendar(2L, "2023-01-15", "2023-01-15")));
+
+        tree.put(calendar(1L, "2023-03-01", "2023-03-02"));
+        assertEquals(List.of(2L), ids(tree.overlapping(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 31))));
+
+        CalendarResponseDto expired = calendar(2L, "2023-01-15", "2023-01-15");
+        expired.setExpired(true);
+        tree.put(expired);
+        assertEquals(List.of(1L), ids(tree.all()));
+
+        tree.remove(1L);
+        assertTrue(tree.all().isEmpty());
+        assertTrue(tree.overlapping(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31)).isEmpty());
+    }
+
+    @DisplayName("무작위 추가/삭제 후에도 전체 탐색 결과와 같다")
+    @Test
+    public void matchesLinearScan(){
+        Random random = new Random(42);
+        List<CalendarResponseDto> expected = new ArrayList<>();
+        CalendarIntervalTree tree = new CalendarIntervalTree(List.of());
+        for (long id = 1; id <= 500; id++) {
+            LocalDate start = BASE.plusDays(random.nextInt(365));
+            CalendarResponseDto calendar = CalendarResponseDto.builder().calendarId(id)
+                    .startDate(start).endDate(start.plusDays(random.nextInt(20))).build();
+            tree.put(calendar);
+            expected.add(calendar);
+            if (random.nextInt(4) == 0) {
+                CalendarResponseDto removed = expected.remove(random.nextInt(expected.size()));
+                tree.remove(removed.getCalendarId());
+            }
+        }
+
+        for (int i = 0; i < 100; i++) {
+            LocalDate from = BASE.plusDays(random.nextInt(380));
+            LocalDate to = from.plusDays(random.nextInt(31));
+            List<Long> scanned = expected.stream()
+                    .filter(calendar -> !calendar.getStartDate().isAfter(to) && !calendar.getEndDate().isBefore(from))
+                    .sorted((a, b) -> a.getStartDate().equals(b.getStartDate())
+                            ? a.getCalendarId().compareTo(b.getCalendarId()) : a.getStartDate().compareTo(b.getStartDate()))
+                    .map(CalendarResponseDto::getCalendarId)
+                    .collect(Collectors.toList());
+            assertEquals(scanned, ids(tree.overlapping(from, to)));
+        }
+    }
+
+    private static CalendarResponseDto calendar(Long id, String start, String end) {
+        return CalendarResponseDto.builder().calendarId(id)
+                .startDate(LocalDate.parse(start)).endDate(LocalDate.parse(end)).build();
+    }
+
+    private static List<Long> ids(List<CalendarResponseDto> calendars) {
+        return calendars.stream().map(CalendarResponseDto::getCalendarId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,87 @@
+package com.umc.mada.calendar.service;
+
+import com.umc.mada.calendar.domain.Calendar;
+import com.umc.mada.calendar.domain.CalendarRepeat;
+import com.umc.mada.calendar.dto.CalendarResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CalendarRepeatExpanderTest {
+    private final CalendarRepeatExpander expander = new CalendarRepeatExpander();
+
+    @DisplayName("해당 일이 없는 달은 말일로 보정하고 다음 달에는 원래 일자로 돌아온다")
+    @Test
+    public void monthEndClamped(){
+        CalendarResponseDto monthly = calendar("2023-01-31", "2023-01-31", CalendarRepeat.MONTH, null, null);
+        assertEquals(dates("2023-01-31", "2023-02-28", "2023-03-31", "2023-04-30"),
+                expander.expand(monthly, date("2023-01-01"), date("2023-04-30")));
+
+        CalendarResponseDto yearly = calendar("2024-02-29", "2024-02-29", CalendarRepeat.YEAR, null, null);
+        assertEquals(dates("2025-02-28"), expander.expand(yearly, date("2025-01-01"), date("2025-12-31")));
+        assertTrue(expander.occursOn(yearly, date("2028-02-29")));
+    }
+
+    @DisplayName("반복 횟수와 반복 종료일 이후의 회차는 펼치지 않는다")
+    @Test
+    public void untilAndCount(){
+        CalendarResponseDto counted = calendar("2023-01-02", "2023-01-02", CalendarRepeat.WEEK, null, 3);
+        assertEquals(dates("2023-01-02", "2023-01-09", "2023-01-16"),
+                expander.expand(counted, date("2023-01-01"), date("2023-01-31")));
+
+        CalendarResponseDto until = calendar("2023-01-01", "2023-01-01", CalendarRepeat.DAY, date("2023-01-20"), null);
+        until.setRepeatInterval(2);
+        assertEquals(dates("2023-01-15", "2023-01-17", "2023-01-19"),
+                expander.expand(until, date("2023-01-15"), date("2023-01-31")));
+    }
+
+    @DisplayName("마지막 회차 종료 일자는 반복 종료일 이전의 마지막 회차 기준이다")
+    @Test
+    public void repeatEndDate(){
+        Calendar counted = Calendar.builder().startDate(date("2023-01-31")).endDate(date("2023-02-01"))
+                .repeat(CalendarRepeat.MONTH).repeatInterval(1).repeatCount(2).build();
+        assertEquals(date("2023-03-01"), expander.repeatEndDate(counted));
+
+        Calendar until = Calendar.builder().startDate(date("2023-01-31")).endDate(date("2023-02-01"))
+                .repeat(CalendarRepeat.MONTH).repeatInterval(1).repeatUntil(date("2023-04-15")).build();
+        assertEquals(date("2023-04-01"), expander.repeatEndDate(until));
+
+        Calendar endless = Calendar.builder().startDate(date("2023-01-31")).endDate(date("2023-02-01"))
+                .repeat(CalendarRepeat.MONTH).repeatInterval(1).build();
+        assertNull(expander.repeatEndDate(endless));
+    }
+
+    @DisplayName("다음 회차는 진행 중인 회차를 포함하고 제외된 회차는 건너뛴다")
+    @Test
+    public void nextOccurrence(){
+        CalendarResponseDto weekly = calendar("2023-01-02", "2023-01-02", CalendarRepeat.WEEK, null, null);
+        assertEquals(date("2023-01-16"), expander.nextOccurrence(weekly, date("2023-01-10"), Set.of()));
+        assertEquals(date("2023-01-23"), expander.nextOccurrence(weekly, date("2023-01-10"), Set.of(date("2023-01-16"))));
+
+        CalendarResponseDto multiDay = calendar("2023-01-02", "2023-01-04", CalendarRepeat.WEEK, null, null);
+        assertEquals(date("2023-01-09"), expander.nextOccurrence(multiDay, date("2023-01-10"), Set.of()));
+
+        CalendarResponseDto counted = calendar("2023-01-02", "2023-01-02", CalendarRepeat.WEEK, null, 3);
+        assertNull(expander.nextOccurrence(counted, date("2023-01-10"), Set.of(date("2023-01-16"))));
+    }
+
+    private static CalendarResponseDto calendar(String start, String end, CalendarRepeat repeat, LocalDate until, Integer count) {
+        return CalendarResponseDto.builder().calendarId(1L).startDate(date(start)).endDate(date(end))
+                .repeat(repeat).repeatInterval(1).repeatUntil(until).repeatCount(count).build();
+    }
+
+    private static LocalDate date(String value) {
+        return LocalDate.parse(value);
+    }
+
+    private static List<LocalDate> dates(String... values) {
+        return Arrays.stream(values).map(LocalDate::parse).collect(Collectors.toList());
+    }
+}
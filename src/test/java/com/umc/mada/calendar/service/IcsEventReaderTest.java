@@ -0,0 +1,202 @@
+package com.umc.mada.calendar.service;
+
+import com.umc.mada.calendar.domain.Calendar;
+import com.umc.mada.calendar.domain.CalendarRepeat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IcsEventReaderTest {
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @DisplayName("접힌 줄을 이어 붙이고 TEXT 값의 이스케이프를 푼다")
+    @Test
+    public void unfoldAndUnescape() throws IOException {
+        List<IcsEventReader.IcsEvent> events = read(
+                "BEGIN:VEVENT",
+                "DTSTART;VALUE=DATE:20230105",
+                "SUMMARY:회의\\, 점",
+                " 심 약속",
+                "DESCRIPTION:첫 줄\\n",
+                "\t둘째 줄",
+                "END:VEVENT");
+
+        Calendar calendar = events.get(0).getCalendar();
+        assertEquals("회의, 점심 약속", calendar.getCalendarName());
+        assertEquals("첫 줄\n둘째 줄", calendar.getMemo());
+    }
+
+    @DisplayName("UTC와 TZID 시각은 서버 시간대로 바꾸고, 알 수 없는 TZID는 현지 시각으로 본다")
+    @Test
+    public void convertTimeZones() throws IOException {
+        List<IcsEventReader.IcsEvent> events = read(
+                "BEGIN:VEVENT",
+                "DTSTART:20230101T150000Z",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "DTSTART;TZID=America/New_York:20230101T100000",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "DTSTART;TZID=Korea Standard Time:20230101T100000",
+                "END:VEVENT");
+
+        assertEquals(LocalDate.of(2023, 1, 2), events.get(0).getCalendar().getStartDate());
+        assertEquals(LocalTime.MIDNIGHT, events.get(0).getCalendar().getStartTime());
+        assertEquals(LocalDate.of(2023, 1, 2), events.get(1).getCalendar().getStartDate());
+        assertEquals(LocalTime.MIDNIGHT, events.get(1).getCalendar().getStartTime());
+        assertEquals(LocalTime.of(10, 0), events.get(2).getCalendar().getStartTime());
+    }
+
+    @DisplayName("종일 일정의 DTEND는 포함하지 않고, DTEND가 없으면 DURATION으로 종료 시각을 구한다")
+    @Test
+    public void endAndDuration() throws IOException {
+        List<IcsEventReader.IcsEvent> events = read(
+                "BEGIN:VEVENT",
+                "DTSTART;VALUE=DATE:20230105",
+                "DTEND;VALUE=DATE:20230107",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "DTSTART:20230105T090000",
+                "DURATION:PT1H30M",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "DTSTART;VALUE=DATE:20230105",
+                "DURATION:P2W",
+                "END:VEVENT");
+
+        Calendar allDay = events.get(0).getCalendar();
+        assertEquals(LocalDate.of(2023, 1, 6), allDay.getEndDate());
+        assertNull(allDay.getStartTime());
+        assertEquals(LocalTime.of(10, 30), events.get(1).getCalendar().getEndTime());
+        assertEquals(LocalDate.of(2023, 1, 18), events.get(2).getCalendar().getEndDate());
+    }
+
+    @DisplayName("EXDATE는 삭제한 회차로, RECURRENCE-ID는 회차 예외로 읽는다")
+    @Test
+    public void exceptionDatesAndOverrides() throws IOException {
+        List<IcsEventReader.IcsEvent> events = read(
+                "BEGIN:VEVENT",
+                "UID:weekly",
+                "DTSTART:20230102T090000",
+                "RRULE:FREQ=WEEKLY;COUNT=10",
+                "EXDATE:20230109T090000,20230116T090000",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "UID:weekly",
+                "RECURRENCE-ID:20230123T090000",
+                "DTSTART:20230124T100000",
+                "RRULE:FREQ=DAILY",
+                "STATUS:CANCELLED",
+                "END:VEVENT");
+
+        IcsEventReader.IcsEvent series = events.get(0);
+        assertEquals(CalendarRepeat.WEEK, series.getCalendar().getRepeat());
+        assertEquals(10, (int) series.getCalendar().getRepeatCount());
+        assertEquals(List.of(LocalDate.of(2023, 1, 9), LocalDate.of(2023, 1, 16)), series.getExceptionDates());
+
+        IcsEventReader.IcsEvent override = events.get(1);
+        assertEquals("weekly", override.getUid());
+        assertEquals(LocalDate.of(2023, 1, 23), override.getRecurrenceId());
+        assertNull(override.getCalendar().getRepeat());
+        assertTrue(override.getCalendar().isExpired());
+    }
+
+    @DisplayName("첫 회차와 같은 날짜만 가리키는 BY 규칙만 반복으로 가져온다")
+    @Test
+    public void byRules() throws IOException {
+        List<IcsEventReader.IcsEvent> events = read(
+                "BEGIN:VEVENT",
+                "DTSTART;VALUE=DATE:20230103",
+                "RRULE:FREQ=WEEKLY;BYDAY=TU;UNTIL=20230131",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "DTSTART;VALUE=DATE:20230103",
+                "RRULE:FREQ=WEEKLY;BYDAY=MO,WE",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "DTSTART;VALUE=DATE:20230103",
+                "RRULE:FREQ=DAILY;INTERVAL=100",
+                "END:VEVENT");
+
+        assertEquals(CalendarRepeat.WEEK, events.get(0).getCalendar().getRepeat());
+        assertEquals(LocalDate.of(2023, 1, 31), events.get(0).getCalendar().getRepeatUntil());
+        assertFalse(events.get(0).isRuleDropped());
+        assertTrue(events.get(1).isRuleDropped());
+        assertNull(events.get(1).getCalendar().getRepeat());
+        assertTrue(events.get(2).isRuleDropped());
+    }
+
+    @DisplayName("해당 일이 없는 달이 생기는 월/연 반복은 첫 회차만 가져온다")
+    @Test
+    public void monthEndRulesDropped() throws IOException {
+        List<IcsEventReader.IcsEvent> events = read(
+                "BEGIN:VEVENT",
+                "DTSTART;VALUE=DATE:20230131",
+                "RRULE:FREQ=MONTHLY;COUNT=3",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "DTSTART;VALUE=DATE:20240229",
+                "RRULE:FREQ=YEARLY",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "DTSTART;VALUE=DATE:20230128",
+                "RRULE:FREQ=MONTHLY",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "DTSTART;VALUE=DATE:20230131",
+                "RRULE:FREQ=MONTHLY;INTERVAL=12",
+                "END:VEVENT");
+
+        assertTrue(events.get(0).isRuleDropped());
+        assertTrue(events.get(1).isRuleDropped());
+        assertEquals(CalendarRepeat.MONTH, events.get(2).getCalendar().getRepeat());
+        assertEquals(CalendarRepeat.MONTH, events.get(3).getCalendar().getRepeat());
+    }
+
+    @DisplayName("DTSTART가 없는 일정은 건너뛰고 하위 컴포넌트의 속성은 무시한다")
+    @Test
+    public void skipInvalidAndNested() throws IOException {
+        StringReader source = new StringReader(ics(
+                "BEGIN:VEVENT",
+                "SUMMARY:날짜 없음",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "DTSTART;VALUE=DATE:20230105",
+                "SUMMARY:알림 있음",
+                "BEGIN:VALARM",
+                "DESCRIPTION:알림",
+                "END:VALARM",
+                "END:VEVENT"));
+        IcsEventReader reader = new IcsEventReader(source, SEOUL);
+
+        IcsEventReader.IcsEvent event = reader.next();
+        assertEquals("알림 있음", event.getCalendar().getCalendarName());
+        assertNull(event.getCalendar().getMemo());
+        assertNull(reader.next());
+        assertEquals(1, reader.getSkipped());
+    }
+
+    private static List<IcsEventReader.IcsEvent> read(String... lines) throws IOException {
+        IcsEventReader reader = new IcsEventReader(new StringReader(ics(lines)), SEOUL);
+        List<IcsEventReader.IcsEvent> events = new ArrayList<>();
+        IcsEventReader.IcsEvent event;
+        while ((event = reader.next()) != null) {
+            events.add(event);
+        }
+        assertEquals(0, reader.getSkipped());
+        return events;
+    }
+
+    private static String ics(String... lines) {
+        return "\uFEFFBEGIN:VCALENDAR\r\nVERSION:2.0\r\n" + String.join("\r\n", lines) + "\r\nEND:VCALENDAR\r\n";
+    }
+}
@@ -0,0 +1,50 @@
+package com.umc.mada.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExpiringLruCacheTest {
+    private final AtomicLong now = new AtomicLong(0);
+
+    @DisplayName("TTL이 지나면 캐시 값이 사라진다")
+    @Test
+    public void expireAfterTtl(){
+        ExpiringLruCache<Long, String> cache = new ExpiringLruCache<>(10, 1000, now::get);
+        cache.put(1L, "a");
+
+        now.set(999);
+        assertEquals("a", cache.get(1L));
+        now.set(1000);
+        assertNull(cache.get(1L));
+    }
+
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 값부터 제거된다")
+    @Test
+    public void evictLeastRecentlyUsed(){
+        ExpiringLruCache<Long, String> cache = new ExpiringLruCache<>(2, 1000, now::get);
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+        cache.get(1L);
+        cache.put(3L, "c");
+
+        assertEquals("a", cache.get(1L));
+        assertNull(cache.get(2L));
+        assertEquals("c", cache.get(3L));
+        assertEquals(2, cache.size());
+    }
+
+    @DisplayName("evict 이후에는 loader로 다시 불러온다")
+    @Test
+    public void reloadAfterEvict(){
+        ExpiringLruCache<Long, String> cache = new ExpiringLruCache<>(10, 1000, now::get);
+        assertEquals("a", cache.computeIfAbsent(1L, key -> "a"));
+        assertEquals("a", cache.computeIfAbsent(1L, key -> "b"));
+
+        cache.evict(1L);
+        assertEquals("b", cache.computeIfAbsent(1L, key -> "b"));
+    }
+}
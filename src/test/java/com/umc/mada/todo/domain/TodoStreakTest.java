@@ -0,0 +1,45 @@
+package com.umc.mada.todo.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TodoStreakTest {
+    private static final LocalDate TODAY = LocalDate.of(2023, 9, 15);
+
+    @DisplayName("미리 완료한 미래 날짜는 현재 연속 일수를 끊지 않는다")
+    @Test
+    public void futureCompletionIgnored(){
+        TodoStreak streak = new TodoStreak(null);
+        streak.rebuild(List.of(TODAY.minusDays(2), TODAY.minusDays(1), TODAY, TODAY.plusDays(1), TODAY.plusDays(5)), TODAY);
+
+        assertEquals(TODAY, streak.getLatestEnd());
+        assertEquals(3, streak.getCurrentStreak(TODAY));
+        assertEquals(3, streak.getLongestStreak());
+    }
+
+    @DisplayName("미래 날짜만 더 긴 구간이어도 가장 긴 구간에 넣지 않는다")
+    @Test
+    public void futureRunNotLongest(){
+        TodoStreak streak = new TodoStreak(null);
+        streak.rebuild(List.of(TODAY.minusDays(10), TODAY.plusDays(1), TODAY.plusDays(2), TODAY.plusDays(3)), TODAY);
+
+        assertEquals(TODAY.minusDays(10), streak.getLatestEnd());
+        assertEquals(0, streak.getCurrentStreak(TODAY));
+        assertEquals(1, streak.getLongestStreak());
+    }
+
+    @DisplayName("어제까지 이어진 구간은 오늘 완료 전에도 현재 연속 일수로 센다")
+    @Test
+    public void continuesFromYesterday(){
+        TodoStreak streak = new TodoStreak(null);
+        streak.rebuild(List.of(TODAY.minusDays(3), TODAY.minusDays(2), TODAY.minusDays(1)), TODAY);
+
+        assertEquals(3, streak.getCurrentStreak(TODAY));
+        assertEquals(0, streak.getCurrentStreak(TODAY.plusDays(1)));
+    }
+}